@@ -0,0 +1,55 @@
+package com.basic.project.benchmark;
+
+import com.basic.project.security.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 검증 비용 비교
+ * - doubleParse: 이전 방식 (validateToken + getUsernameFromToken, 매번 파서를 만들어 서명을 두 번 검증)
+ * - verifyToken: 파서를 재사용하여 한 번만 파싱
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtVerification"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private SecretKey key;
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 86_400_000L, false, 60L, null);
+        token = jwtTokenProvider.generateToken(User.withUsername("admin")
+                .password("unused")
+                .roles("ADMIN")
+                .build());
+    }
+
+    @Benchmark
+    public String doubleParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String verifyToken() {
+        return jwtTokenProvider.verifyToken(token).getUsername();
+    }
+}
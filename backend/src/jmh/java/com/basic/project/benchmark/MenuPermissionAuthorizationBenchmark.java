@@ -0,0 +1,126 @@
+package com.basic.project.benchmark;
+
+import com.basic.project.annotation.HasMenuPermission;
+import com.basic.project.enums.MenuCode;
+import com.basic.project.enums.PermissionBits;
+import com.basic.project.security.MenuPermissionAuthorizationManager;
+import com.basic.project.service.MenuPermissionService;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메서드 인가 비용 비교 (@HasMenuPermission.Manage 한 번 확인)
+ * - spel: 이전 방식 (@PreAuthorize("@menuPermissionService.canManage(...)") - 호출마다 빈 조회와 SpEL 평가, 읽기/쓰기 두 번 계산)
+ * - precomputed: MenuPermissionAuthorizationManager (메서드별로 해석해 둔 (메뉴 코드, 요구 비트)와 비교)
+ * 두 경로 모두 같은 권한 비트를 반환하는 MenuPermissionService를 사용하므로 권한 계산(매트릭스 조회) 비용은 제외됨
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="MenuPermissionAuthorization"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MenuPermissionAuthorizationBenchmark {
+
+    private GenericApplicationContext applicationContext;
+    private PreAuthorizeAuthorizationManager spelManager;
+    private MenuPermissionAuthorizationManager precomputedManager;
+    private MethodInvocation spelInvocation;
+    private MethodInvocation precomputedInvocation;
+    private Supplier<Authentication> authentication;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean("menuPermissionService", MenuPermissionService.class, FixedMenuPermissionService::new);
+        applicationContext.refresh();
+
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(applicationContext);
+        spelManager = new PreAuthorizeAuthorizationManager();
+        spelManager.setExpressionHandler(expressionHandler);
+
+        precomputedManager = new MenuPermissionAuthorizationManager(
+                applicationContext.getBeanProvider(MenuPermissionService.class));
+
+        SecuredTarget target = new SecuredTarget();
+        spelInvocation = new SimpleMethodInvocation(target, SecuredTarget.class.getMethod("updateWithSpel"));
+        precomputedInvocation = new SimpleMethodInvocation(target, SecuredTarget.class.getMethod("updateWithAnnotation"));
+
+        Authentication user = new UsernamePasswordAuthenticationToken(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+        // SpEL 경로의 canManage는 SecurityContextHolder에서 인증 정보를 읽음
+        SecurityContextHolder.getContext().setAuthentication(user);
+        authentication = () -> user;
+
+        requireGranted(spelManager.check(authentication, spelInvocation));
+        requireGranted(precomputedManager.check(authentication, precomputedInvocation));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public AuthorizationDecision spel() {
+        return spelManager.check(authentication, spelInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationDecision precomputed() {
+        return precomputedManager.check(authentication, precomputedInvocation);
+    }
+
+    private static void requireGranted(AuthorizationDecision decision) {
+        if (decision == null || !decision.isGranted()) {
+            throw new IllegalStateException("벤치마크 설정 오류: 권한이 허용되지 않음 " + decision);
+        }
+    }
+
+    /**
+     * 권한 매트릭스 대신 고정된 권한 비트를 반환
+     */
+    static class FixedMenuPermissionService extends MenuPermissionService {
+
+        FixedMenuPermissionService() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public int getPermissionBits(Authentication authentication, String menuCode) {
+            return PermissionBits.FULL;
+        }
+    }
+
+    public static class SecuredTarget {
+
+        @PreAuthorize("@menuPermissionService.canManage('" + MenuCode.USER_MANAGEMENT + "')")
+        public void updateWithSpel() {
+        }
+
+        @HasMenuPermission.Manage(MenuCode.USER_MANAGEMENT)
+        public void updateWithAnnotation() {
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.basic.project;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @MapperScan("com.basic.project.mapper")
+@EnableScheduling
 public class BasicProjectApplication {
     
     public static void main(String[] args) {
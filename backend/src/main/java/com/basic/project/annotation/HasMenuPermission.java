@@ -1,7 +1,5 @@
 package com.basic.project.annotation;
 
-import org.springframework.security.access.prepost.PreAuthorize;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -9,9 +7,11 @@ import java.lang.annotation.Target;
 
 /**
  * 메뉴 권한 확인을 위한 커스텀 어노테이션
+ * SpEL 대신 MenuPermissionAuthorizationManager가 메서드별로 한 번만 해석하여 검사
+ * 다른 어노테이션의 메타 어노테이션으로도 사용 가능 (MenuPermissions 참고)
  * 사용 예:
  * - @HasMenuPermission.Read("USER_MANAGEMENT")
- * - @HasMenuPermission.Write("USER_MANAGEMENT") 
+ * - @HasMenuPermission.Write("USER_MANAGEMENT")
  * - @HasMenuPermission.Delete("USER_MANAGEMENT")
  * - @HasMenuPermission.Manage("USER_MANAGEMENT")
  * - @HasMenuPermission.Access("USER_MANAGEMENT")
@@ -21,9 +21,8 @@ public class HasMenuPermission {
     /**
      * 읽기 권한 확인
      */
-    @Target(ElementType.METHOD)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canRead(#menuCode)")
     public @interface Read {
         String value(); // 메뉴 코드
     }
@@ -31,9 +30,8 @@ public class HasMenuPermission {
     /**
      * 쓰기/관리 권한 확인 (읽기 + 쓰기)
      */
-    @Target(ElementType.METHOD)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManage(#menuCode)")
     public @interface Write {
         String value(); // 메뉴 코드
     }
@@ -41,9 +39,8 @@ public class HasMenuPermission {
     /**
      * 삭제 권한 확인
      */
-    @Target(ElementType.METHOD)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canDelete(#menuCode)")
     public @interface Delete {
         String value(); // 메뉴 코드
     }
@@ -51,9 +48,8 @@ public class HasMenuPermission {
     /**
      * 관리 권한 확인 (읽기 + 쓰기)
      */
-    @Target(ElementType.METHOD)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManage(#menuCode)")
     public @interface Manage {
         String value(); // 메뉴 코드
     }
@@ -61,9 +57,8 @@ public class HasMenuPermission {
     /**
      * 접근 권한 확인 (읽기만)
      */
-    @Target(ElementType.METHOD)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canAccess(#menuCode)")
     public @interface Access {
         String value(); // 메뉴 코드
     }
@@ -71,9 +66,8 @@ public class HasMenuPermission {
     /**
      * 전체 권한 확인 (읽기 + 쓰기 + 삭제)
      */
-    @Target(ElementType.METHOD)
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.hasFullAccess(#menuCode)")
     public @interface Full {
         String value(); // 메뉴 코드
     }
@@ -1,6 +1,6 @@
 package com.basic.project.annotation;
 
-import org.springframework.security.access.prepost.PreAuthorize;
+import com.basic.project.enums.MenuCode;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -10,98 +10,99 @@ import java.lang.annotation.Target;
 /**
  * 각 메뉴별 특화된 권한 어노테이션들
  * 사용하기 매우 간단하고 직관적
+ * HasMenuPermission 어노테이션을 메타 어노테이션으로 사용하여 메뉴 코드와 요구 권한을 선언
  */
 public class MenuPermissions {
     
     // ===== 대시보드 =====
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canReadDashboard()")
+    @HasMenuPermission.Read(MenuCode.DASHBOARD)
     public @interface ReadDashboard {}
     
     // ===== 사용자 관리 =====
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canReadUsers()")
+    @HasMenuPermission.Read(MenuCode.USER_MANAGEMENT)
     public @interface ReadUsers {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManageUsers()")
+    @HasMenuPermission.Manage(MenuCode.USER_MANAGEMENT)
     public @interface ManageUsers {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canDeleteUsers()")
+    @HasMenuPermission.Delete(MenuCode.USER_MANAGEMENT)
     public @interface DeleteUsers {}
     
     // ===== 역할 관리 =====
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canReadRoles()")
+    @HasMenuPermission.Read(MenuCode.ROLE_MANAGEMENT)
     public @interface ReadRoles {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManageRoles()")
+    @HasMenuPermission.Manage(MenuCode.ROLE_MANAGEMENT)
     public @interface ManageRoles {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canDeleteRoles()")
+    @HasMenuPermission.Delete(MenuCode.ROLE_MANAGEMENT)
     public @interface DeleteRoles {}
     
     // ===== 메뉴 관리 =====
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canReadMenus()")
+    @HasMenuPermission.Read(MenuCode.MENU_MANAGEMENT)
     public @interface ReadMenus {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManageMenus()")
+    @HasMenuPermission.Manage(MenuCode.MENU_MANAGEMENT)
     public @interface ManageMenus {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canDeleteMenus()")
+    @HasMenuPermission.Delete(MenuCode.MENU_MANAGEMENT)
     public @interface DeleteMenus {}
     
     // ===== 권한 관리 =====
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canReadPermissions()")
+    @HasMenuPermission.Read(MenuCode.PERMISSION_MANAGEMENT)
     public @interface ReadPermissions {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManagePermissions()")
+    @HasMenuPermission.Manage(MenuCode.PERMISSION_MANAGEMENT)
     public @interface ManagePermissions {}
     
     // ===== 로그 관리 =====
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    @HasMenuPermission.Read(MenuCode.LOG_MANAGEMENT)
     public @interface ReadLogs {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManageLogs()")
+    @HasMenuPermission.Manage(MenuCode.LOG_MANAGEMENT)
     public @interface ManageLogs {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canDeleteLogs()")
+    @HasMenuPermission.Delete(MenuCode.LOG_MANAGEMENT)
     public @interface DeleteLogs {}
     
     // ===== 내 정보 =====
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canAccessProfile()")
+    @HasMenuPermission.Access(MenuCode.MY_PROFILE)
     public @interface AccessProfile {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @PreAuthorize("@menuPermissionService.canManageProfile()")
+    @HasMenuPermission.Manage(MenuCode.MY_PROFILE)
     public @interface ManageProfile {}
 }
\ No newline at end of file
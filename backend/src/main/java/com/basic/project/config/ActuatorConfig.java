@@ -13,7 +13,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
 import com.basic.project.mapper.UserMapper;
-import com.basic.project.mapper.SystemLogMapper;
+import com.basic.project.service.SystemLogStore;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -32,7 +32,7 @@ public class ActuatorConfig {
     public static class CustomInfoContributor implements InfoContributor {
         
         private final UserMapper userMapper;
-        private final SystemLogMapper systemLogMapper;
+        private final SystemLogStore systemLogStore;
 
         @Override
         public void contribute(Info.Builder builder) {
@@ -43,7 +43,7 @@ public class ActuatorConfig {
                 
                 // 시스템 로그 통계 (최근 24시간)
                 LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(1);
-                int recentLogs = systemLogMapper.countByDateRange(oneDayAgo, LocalDateTime.now());
+                int recentLogs = systemLogStore.countByDateRange(oneDayAgo, LocalDateTime.now());
                 
                 Map<String, Object> appInfo = new HashMap<>();
                 appInfo.put("name", "웹 프로젝트 기본 틀");
@@ -1,31 +1,65 @@
 package com.basic.project.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
 
+/**
+ * 캐시 설정
+ * Caffeine(W-TinyLFU 빈도 기반 제거) 캐시를 캐시별 크기/만료 설정(app.cache)으로 생성
+ * 미리 등록한 캐시는 시작 시 Micrometer(cache.gets, cache.evictions, cache.size, cache.load.duration 등)에 바인딩됨
+ * sync = true인 @Cacheable 메서드는 같은 키의 동시 미스를 하나의 적재로 합침 (합류한 호출 수: cache.loads.coalesced)
+ */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
+    // 애플리케이션에서 사용하는 캐시 이름 (설정이 없으면 app.cache.defaults 적용)
+    public static final List<String> CACHE_NAMES = List.of(
+        "users",
+        "roles",
+        "menus",
+        "permissions",
+        "menuTree",
+        "user-menus",
+        "statistics"
+    );
+
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties,
+                                     @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
+        InstrumentedCaffeineCacheManager cacheManager = new InstrumentedCaffeineCacheManager(cacheSpecProperties, cacheRefreshExecutor);
         cacheManager.setAllowNullValues(false);
-        
-        // 캐시 이름들 미리 설정
-        cacheManager.setCacheNames(Arrays.asList(
-            "users",
-            "roles", 
-            "menus",
-            "permissions",
-            "menuTree"
-        ));
-        
+
+        CACHE_NAMES.forEach(cacheManager::registerCache);
+        cacheSpecProperties.getSpecs().keySet().stream()
+                .filter(cacheName -> !CACHE_NAMES.contains(cacheName))
+                .forEach(cacheManager::registerCache);
+
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    /**
+     * 진행 중인 적재에 합류한 호출 수를 캐시별로 노출
+     */
+    @Bean
+    public MeterBinder coalescedCacheLoadMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(cacheName -> {
+            if (cacheManager.getCache(cacheName) instanceof InstrumentedCaffeineCache cache) {
+                FunctionCounter.builder("cache.loads.coalesced", cache, InstrumentedCaffeineCache::getCoalescedCount)
+                        .description("진행 중인 적재 결과를 기다려 함께 사용한 캐시 미스 수")
+                        .tag("cache", cacheName)
+                        .register(registry);
+            }
+        });
+    }
+}
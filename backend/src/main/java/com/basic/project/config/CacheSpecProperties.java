@@ -0,0 +1,53 @@
+package com.basic.project.config;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 크기/만료 설정 (app.cache)
+ * defaults는 모든 캐시에 공통 적용되고, specs.<캐시명>에 지정한 값이 항목별로 우선함
+ * refresh-after-write는 지원하지 않음 - @Cacheable 캐시에는 항목을 다시 적재할 로더가 없어 갱신이 곧 제거가 되므로 expire-after-write 사용
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * 캐시 이름에 해당하는 최종 설정 (기본값 + 캐시별 설정)
+     */
+    public Spec resolve(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        return spec != null ? spec.mergedWith(defaults) : defaults;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Spec {
+        // 최대 항목 수 (maximumWeight와 함께 지정할 수 없음)
+        private Long maximumSize;
+        // 최대 가중치 합계 (컬렉션/맵 값은 요소 수, 그 외는 1로 계산)
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+
+        private Spec mergedWith(Spec fallback) {
+            Spec merged = new Spec();
+            // 크기 제한은 캐시별 설정이 하나라도 있으면 통째로 사용 (항목 수/가중치 혼용 방지)
+            boolean bounded = maximumSize != null || maximumWeight != null;
+            merged.maximumSize = bounded ? maximumSize : fallback.maximumSize;
+            merged.maximumWeight = bounded ? maximumWeight : fallback.maximumWeight;
+            merged.expireAfterWrite = expireAfterWrite != null ? expireAfterWrite : fallback.expireAfterWrite;
+            merged.expireAfterAccess = expireAfterAccess != null ? expireAfterAccess : fallback.expireAfterAccess;
+            return merged;
+        }
+    }
+}
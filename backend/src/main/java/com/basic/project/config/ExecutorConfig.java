@@ -0,0 +1,81 @@
+package com.basic.project.config;
+
+import com.basic.project.service.AuditLogWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 애플리케이션 작업용 실행기 설정
+ * 용도별로 이름 있는 실행기를 두고 크기/거부 정책/가상 스레드 사용 여부는 app.executors.pools.<용도>로 설정
+ * - audit: 감사 로그 일괄 저장
+ * - cache-refresh: Caffeine 캐시 유지보수 (만료 항목 정리, 제거 알림)
+ * - background: @Async 기본 실행기, Spring MVC 비동기 요청 처리
+ * - dashboard-query: 대시보드 집계 쿼리 병렬 실행
+ * - log-stream: 실시간 로그 스트림(SSE) 구독자별 전송
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+@EnableConfigurationProperties(ExecutorProperties.class)
+public class ExecutorConfig implements AsyncConfigurer {
+
+    @Bean
+    public ManagedExecutorRegistry managedExecutorRegistry(ExecutorProperties executorProperties, MeterRegistry meterRegistry) {
+        return new ManagedExecutorRegistry(executorProperties, meterRegistry);
+    }
+
+    /**
+     * 감사 로그 저장용 - 기록 스레드(AuditLogWriter)보다 늦게 멈추도록 단계를 낮추고 종료 중에도 작업을 받음
+     */
+    @Bean(name = "auditExecutor")
+    public AsyncTaskExecutor auditExecutor(ManagedExecutorRegistry registry) {
+        AsyncTaskExecutor executor = registry.create("auditExecutor", "audit", "audit-");
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.setPhase(AuditLogWriter.PHASE - 1);
+            threadPool.setAcceptTasksAfterContextClose(true);
+        }
+        return executor;
+    }
+
+    @Bean(name = "cacheRefreshExecutor")
+    public AsyncTaskExecutor cacheRefreshExecutor(ManagedExecutorRegistry registry) {
+        return registry.create("cacheRefreshExecutor", "cache-refresh", "cache-refresh-");
+    }
+
+    /**
+     * 백그라운드 작업용 - @Async 기본 실행기(taskExecutor)이자 Spring MVC 비동기 요청 실행기(applicationTaskExecutor)
+     */
+    @Bean(name = {"backgroundExecutor", "applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor backgroundExecutor(ManagedExecutorRegistry registry) {
+        return registry.create("backgroundExecutor", "background", "background-");
+    }
+
+    /**
+     * 대시보드 집계 쿼리 병렬 실행용 (크기 제한, 초과 시 거부 → 해당 섹션을 사용 불가로 표시)
+     */
+    @Bean(name = "dashboardQueryExecutor")
+    public AsyncTaskExecutor dashboardQueryExecutor(ManagedExecutorRegistry registry) {
+        return registry.create("dashboardQueryExecutor", "dashboard-query", "dashboard-query-");
+    }
+
+    /**
+     * 실시간 로그 스트림 전송용 - 구독자마다 한 번에 하나의 전송 작업만 실행 (거부되면 다음 로그/하트비트 때 다시 제출)
+     */
+    @Bean(name = "logStreamExecutor")
+    public AsyncTaskExecutor logStreamExecutor(ManagedExecutorRegistry registry) {
+        return registry.create("logStreamExecutor", "log-stream", "log-stream-");
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("비동기 작업 실행 중 오류 발생: {}", method.getName(), ex);
+    }
+}
@@ -0,0 +1,80 @@
+package com.basic.project.config;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 실행기별 스레드 풀 설정 (app.executors)
+ * defaults는 모든 실행기에 공통 적용되고, pools.<실행기명>에 지정한 값이 항목별로 우선함
+ */
+@Data
+@ConfigurationProperties(prefix = "app.executors")
+public class ExecutorProperties {
+
+    private Spec defaults = Spec.builtIn();
+
+    private Map<String, Spec> pools = new LinkedHashMap<>();
+
+    /**
+     * 실행기 이름에 해당하는 최종 설정 (기본값 + 실행기별 설정)
+     */
+    public Spec resolve(String name) {
+        Spec spec = pools.get(name);
+        return spec != null ? spec.mergedWith(defaults) : defaults;
+    }
+
+    public enum RejectionPolicy {
+        // 예외 발생 (호출 측에서 처리)
+        ABORT,
+        // 제출한 스레드에서 직접 실행 (자연스러운 역압)
+        CALLER_RUNS,
+        // 새 작업을 조용히 버림
+        DISCARD,
+        // 큐에서 가장 오래된 작업을 버리고 다시 제출
+        DISCARD_OLDEST
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Spec {
+        private Integer coreSize;
+        private Integer maxSize;
+        private Integer queueCapacity;
+        private Duration keepAlive;
+        private RejectionPolicy rejectionPolicy;
+        // Java 21 이상에서 작업마다 가상 스레드 사용 (동시 실행 수는 maxSize로 제한, 초과 시 제출 측 대기)
+        private Boolean virtualThreads;
+        // 종료 시 실행 중인 작업을 기다리는 최대 시간
+        private Duration awaitTermination;
+
+        // 설정이 없을 때 사용하는 기본값 (app.executors.defaults가 항목별로 덮어씀)
+        private static Spec builtIn() {
+            Spec spec = new Spec();
+            spec.coreSize = 2;
+            spec.maxSize = 4;
+            spec.queueCapacity = 100;
+            spec.keepAlive = Duration.ofSeconds(60);
+            spec.rejectionPolicy = RejectionPolicy.ABORT;
+            spec.virtualThreads = false;
+            spec.awaitTermination = Duration.ofSeconds(10);
+            return spec;
+        }
+
+        private Spec mergedWith(Spec fallback) {
+            Spec merged = new Spec();
+            merged.coreSize = coreSize != null ? coreSize : fallback.coreSize;
+            merged.maxSize = maxSize != null ? maxSize : fallback.maxSize;
+            merged.queueCapacity = queueCapacity != null ? queueCapacity : fallback.queueCapacity;
+            merged.keepAlive = keepAlive != null ? keepAlive : fallback.keepAlive;
+            merged.rejectionPolicy = rejectionPolicy != null ? rejectionPolicy : fallback.rejectionPolicy;
+            merged.virtualThreads = virtualThreads != null ? virtualThreads : fallback.virtualThreads;
+            merged.awaitTermination = awaitTermination != null ? awaitTermination : fallback.awaitTermination;
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.basic.project.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단일 적재 합류 수를 집계하는 Caffeine 캐시
+ * - @Cacheable(sync = true)의 적재는 CaffeineCache.get(key, valueLoader)가 Caffeine의 원자적 get(key, mappingFunction)으로 처리
+ *   (같은 키의 동시 미스는 하나의 적재를 기다리며, 적재 시간/실패는 Caffeine 통계에 기록됨)
+ * - 미스였지만 자신의 로더가 실행되지 않은 호출(다른 스레드의 진행 중인 적재 결과를 받은 호출)을 합류 수로 집계
+ */
+public class InstrumentedCaffeineCache extends CaffeineCache {
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public InstrumentedCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    /**
+     * Caffeine의 원자적 적재에 위임하고, 다른 호출의 적재를 기다려 값을 받은 미스를 집계
+     * (존재 확인은 통계에 기록되지 않는 asMap()으로 수행)
+     */
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean present = getNativeCache().asMap().containsKey(key);
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = super.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (!present && !loaded.get()) {
+            coalescedCount.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 진행 중인 적재에 합류한 호출 수
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+}
@@ -0,0 +1,96 @@
+package com.basic.project.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * 캐시별 설정(app.cache)으로 Caffeine 캐시를 생성하는 캐시 매니저
+ * 적중/미스/제거와 @Cacheable(sync = true) 적재 시간을 Caffeine 통계(stats)로 집계
+ * 항목이 제거되면(크기/만료 제거, 명시적 제거, 교체) 등록된 CacheRemovalListener에 알림
+ */
+@Slf4j
+public class InstrumentedCaffeineCacheManager extends CaffeineCacheManager {
+
+    // 컬렉션/맵 값은 요소 수, 그 외는 1로 가중치 계산
+    private static final Weigher<Object, Object> ELEMENT_COUNT_WEIGHER = (key, value) -> {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    };
+
+    private final CacheSpecProperties cacheSpecProperties;
+
+    // 만료 항목 정리, 제거 알림 등 Caffeine 내부 작업 실행기
+    private final Executor cacheRefreshExecutor;
+
+    private final List<CacheRemovalListener> removalListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 캐시 항목 제거 알림 (cacheRefreshExecutor에서 비동기로 호출)
+     */
+    @FunctionalInterface
+    public interface CacheRemovalListener {
+        void onRemoval(String cacheName, Object key, Object value);
+    }
+
+    public InstrumentedCaffeineCacheManager(CacheSpecProperties cacheSpecProperties, Executor cacheRefreshExecutor) {
+        this.cacheSpecProperties = cacheSpecProperties;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+    }
+
+    /**
+     * 캐시를 미리 생성해 등록 (시작 시점에 등록된 캐시만 메트릭에 자동 바인딩됨)
+     */
+    public void registerCache(String cacheName) {
+        registerCustomCache(cacheName, createNativeCaffeineCache(cacheName));
+    }
+
+    /**
+     * 제거 알림 등록 - 이미 생성된 캐시에도 적용됨
+     */
+    public void addRemovalListener(CacheRemovalListener listener) {
+        removalListeners.add(listener);
+    }
+
+    @Override
+    protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+        CacheSpecProperties.Spec spec = cacheSpecProperties.resolve(name);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .executor(cacheRefreshExecutor)
+                .recordStats()
+                .removalListener((key, value, cause) -> removalListeners
+                        .forEach(listener -> listener.onRemoval(name, key, value)));
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(ELEMENT_COUNT_WEIGHER);
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+
+        log.debug("캐시 생성: {} {}", name, spec);
+        return builder.build();
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new InstrumentedCaffeineCache(name, cache, isAllowNullValues());
+    }
+}
@@ -0,0 +1,208 @@
+package com.basic.project.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이름 있는 실행기 생성/관리
+ * 설정(app.executors)에 따라 크기 제한 스레드 풀 또는 (Java 21 이상) 작업별 가상 스레드 실행기를 만들고
+ * 작업 대기/실행 시간(executor.task.wait, executor.task.execution)과 거부 수(executor.rejected)를 실행기별로 기록
+ * 스레드 풀의 활성 스레드/큐 길이(executor.active, executor.queued 등)는 Spring Boot가 실행기 빈 이름으로 자동 등록
+ */
+@Slf4j
+public class ManagedExecutorRegistry {
+
+    private static final int VIRTUAL_THREAD_MIN_JAVA_VERSION = 21;
+
+    private final ExecutorProperties executorProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ManagedExecutor> executors = new ConcurrentHashMap<>();
+
+    public ManagedExecutorRegistry(ExecutorProperties executorProperties, MeterRegistry meterRegistry) {
+        this.executorProperties = executorProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 실행기 생성
+     * @param name 실행기(빈) 이름 - 메트릭 태그로 사용
+     * @param configKey 설정 키 (app.executors.pools.<configKey>)
+     * @param threadNamePrefix 스레드 이름 접두사
+     */
+    public AsyncTaskExecutor create(String name, String configKey, String threadNamePrefix) {
+        ExecutorProperties.Spec spec = executorProperties.resolve(configKey);
+        ManagedExecutor managed = new ManagedExecutor(name, spec, meterRegistry);
+
+        AsyncTaskExecutor executor;
+        if (Boolean.TRUE.equals(spec.getVirtualThreads()) && isVirtualThreadSupported()) {
+            executor = createVirtualThreadExecutor(managed, spec, threadNamePrefix);
+        } else {
+            if (Boolean.TRUE.equals(spec.getVirtualThreads())) {
+                log.warn("실행기 {}: 가상 스레드는 Java {} 이상에서만 사용 가능 - 스레드 풀로 생성 (현재 Java {})",
+                        name, VIRTUAL_THREAD_MIN_JAVA_VERSION, Runtime.version().feature());
+            }
+            executor = createThreadPoolExecutor(managed, spec, threadNamePrefix);
+        }
+
+        executors.put(name, managed);
+        return executor;
+    }
+
+    public Collection<ManagedExecutor> getExecutors() {
+        return Collections.unmodifiableCollection(executors.values());
+    }
+
+    private ThreadPoolTaskExecutor createThreadPoolExecutor(ManagedExecutor managed, ExecutorProperties.Spec spec,
+                                                            String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(spec.getCoreSize());
+        executor.setMaxPoolSize(Math.max(spec.getCoreSize(), spec.getMaxSize()));
+        executor.setQueueCapacity(spec.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) spec.getKeepAlive().toSeconds());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(managed.countingRejections(toHandler(spec.getRejectionPolicy())));
+        executor.setTaskDecorator(managed.timingDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(spec.getAwaitTermination().toMillis());
+        managed.threadPool = executor;
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드 생성 - 큐 없이 동시 실행 수만 제한 (한도 도달 시 제출 측이 대기하므로 거부 정책은 적용되지 않음)
+     */
+    private SimpleAsyncTaskExecutor createVirtualThreadExecutor(ManagedExecutor managed, ExecutorProperties.Spec spec,
+                                                                String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(spec.getMaxSize());
+        executor.setTaskDecorator(managed.timingDecorator());
+        executor.setTaskTerminationTimeout(spec.getAwaitTermination().toMillis());
+        managed.virtual = true;
+        Gauge.builder("executor.active", managed.activeTasks, AtomicInteger::get)
+                .description("실행 중인 작업 수")
+                .tag("name", managed.name)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private static boolean isVirtualThreadSupported() {
+        return Runtime.version().feature() >= VIRTUAL_THREAD_MIN_JAVA_VERSION;
+    }
+
+    private static RejectedExecutionHandler toHandler(ExecutorProperties.RejectionPolicy policy) {
+        return switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+
+    /**
+     * 실행기별 상태와 메트릭
+     */
+    public static class ManagedExecutor {
+
+        @Getter
+        private final String name;
+        @Getter
+        private final ExecutorProperties.Spec spec;
+        private final AtomicInteger activeTasks = new AtomicInteger();
+        private final AtomicLong rejectedTasks = new AtomicLong();
+        private final Timer waitTimer;
+        private final Timer executionTimer;
+
+        @Getter
+        private boolean virtual;
+        private ThreadPoolTaskExecutor threadPool;
+
+        private ManagedExecutor(String name, ExecutorProperties.Spec spec, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.spec = spec;
+            this.waitTimer = Timer.builder("executor.task.wait")
+                    .description("작업 제출부터 실행 시작까지 대기 시간")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            this.executionTimer = Timer.builder("executor.task.execution")
+                    .description("작업 실행 시간")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("executor.rejected", rejectedTasks, AtomicLong::get)
+                    .description("거부 정책이 적용된 작업 수")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+
+        public int getActiveCount() {
+            return threadPool != null ? threadPool.getActiveCount() : activeTasks.get();
+        }
+
+        public int getPoolSize() {
+            return threadPool != null ? threadPool.getPoolSize() : activeTasks.get();
+        }
+
+        public int getQueueSize() {
+            return threadPool != null ? threadPool.getQueueSize() : 0;
+        }
+
+        public long getCompletedTaskCount() {
+            return executionTimer.count();
+        }
+
+        public long getRejectedCount() {
+            return rejectedTasks.get();
+        }
+
+        public Timer getWaitTimer() {
+            return waitTimer;
+        }
+
+        public Timer getExecutionTimer() {
+            return executionTimer;
+        }
+
+        private RejectedExecutionHandler countingRejections(RejectedExecutionHandler delegate) {
+            return (task, executor) -> {
+                rejectedTasks.incrementAndGet();
+                delegate.rejectedExecution(task, executor);
+            };
+        }
+
+        private TaskDecorator timingDecorator() {
+            return task -> {
+                long submittedAt = System.nanoTime();
+                return () -> {
+                    long startedAt = System.nanoTime();
+                    waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                    activeTasks.incrementAndGet();
+                    try {
+                        task.run();
+                    } finally {
+                        activeTasks.decrementAndGet();
+                        executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                };
+            };
+        }
+    }
+}
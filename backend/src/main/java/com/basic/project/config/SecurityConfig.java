@@ -3,13 +3,23 @@ package com.basic.project.config;
 import com.basic.project.security.JwtAuthenticationEntryPoint;
 import com.basic.project.security.JwtAuthenticationFilter;
 import com.basic.project.security.JwtTokenProvider;
+import com.basic.project.security.MenuPermissionAuthorizationManager;
+import com.basic.project.security.TokenAuthenticationCache;
 import com.basic.project.security.UserDetailsServiceImpl;
+import com.basic.project.service.MenuPermissionService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -36,6 +46,7 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
     
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -57,7 +68,25 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenAuthenticationCache);
+    }
+    
+    /**
+     * 메뉴 권한 어노테이션 인가 관리자 (SpEL 대신 메서드별로 미리 해석한 권한 정보 사용)
+     */
+    @Bean
+    static MenuPermissionAuthorizationManager menuPermissionAuthorizationManager(
+            ObjectProvider<MenuPermissionService> menuPermissionService) {
+        return new MenuPermissionAuthorizationManager(menuPermissionService);
+    }
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor menuPermissionAuthorizationAdvisor(MenuPermissionAuthorizationManager menuPermissionAuthorizationManager) {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                MenuPermissionAuthorizationManager.pointcut(), menuPermissionAuthorizationManager);
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
     }
     
     @Bean
@@ -75,6 +104,8 @@ public class SecurityConfig {
                 .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/error").permitAll()
+                // 비동기 응답(스트리밍) 완료 후 재디스패치 - 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
@@ -10,6 +10,7 @@ import com.basic.project.dto.RegisterRequest;
 import com.basic.project.dto.UpdateProfileRequest;
 import com.basic.project.domain.User;
 import com.basic.project.security.JwtTokenProvider;
+import com.basic.project.security.JwtVerificationResult;
 import com.basic.project.security.UserPrincipal;
 import com.basic.project.security.UserDetailsServiceImpl;
 import com.basic.project.service.UserService;
@@ -144,14 +145,16 @@ public class AuthController {
         
         try {
             String refreshToken = request.getRefreshToken();
+            JwtVerificationResult verification = tokenProvider.verifyToken(refreshToken);
             
-            if (!tokenProvider.validateToken(refreshToken)) {
+            // 스트림 전용 토큰은 URL로 전달되므로 새 토큰 발급에 사용할 수 없음
+            if (!verification.isValid() || tokenProvider.isLogStreamToken(verification.claims())) {
                 log.warn("Invalid refresh token");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("400", "유효하지 않은 리프레시 토큰입니다"));
             }
             
-            String username = tokenProvider.getUsernameFromToken(refreshToken);
+            String username = verification.getUsername();
             UserPrincipal userPrincipal = 
                 (UserPrincipal) userDetailsService.loadUserByUsername(username);
             
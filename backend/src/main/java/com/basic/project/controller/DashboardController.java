@@ -3,7 +3,7 @@ package com.basic.project.controller;
 import com.basic.project.domain.SystemLog;
 import com.basic.project.dto.ApiResponse;
 import com.basic.project.dto.DashboardStatsResponse;
-import com.basic.project.service.DashboardService;
+import com.basic.project.service.DashboardSnapshotService;
 import com.basic.project.service.SystemLogService;
 import com.basic.project.service.MenuPermissionService;
 import com.basic.project.enums.MenuCode;
@@ -22,7 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final DashboardService dashboardService;
+    private final DashboardSnapshotService dashboardSnapshotService;
     private final SystemLogService systemLogService;
     private final MenuPermissionService menuPermissionService;
 
@@ -30,7 +30,7 @@ public class DashboardController {
     @ReadDashboard
     public ResponseEntity<ApiResponse<DashboardStatsResponse>> getDashboardStats() {
         try {
-            DashboardStatsResponse stats = dashboardService.getDashboardStats();
+            DashboardStatsResponse stats = dashboardSnapshotService.getDashboardStats();
             return ResponseEntity.ok(ApiResponse.success("대시보드 통계 조회 성공", stats));
         } catch (Exception e) {
             log.error("대시보드 통계 조회 중 오류 발생", e);
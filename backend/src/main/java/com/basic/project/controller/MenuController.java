@@ -2,6 +2,7 @@ package com.basic.project.controller;
 
 import com.basic.project.domain.Menu;
 import com.basic.project.dto.ApiResponse;
+import com.basic.project.dto.CursorPageResponse;
 import com.basic.project.service.MenuService;
 import com.basic.project.service.MenuPermissionService;
 import com.basic.project.security.UserPrincipal;
@@ -166,6 +167,23 @@ public class MenuController {
         return ResponseEntity.ok(ApiResponse.success("메뉴 페이징 조회 성공", menus));
     }
     
+    /**
+     * 커서 페이지네이션 메뉴 조회 (cursor 파라미터가 있을 때, 첫 페이지는 빈 값)
+     */
+    @GetMapping(value = "/page", params = "cursor")
+    @PreAuthorize("@menuPermissionService.hasReadPermission('MENU_MANAGEMENT')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<Menu>>> getMenusByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPageResponse<Menu> menus = menuService.getMenusByCursor(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("메뉴 커서 페이징 조회 성공", menus));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("400", e.getMessage()));
+        }
+    }
+    
     @GetMapping("/count")
     @PreAuthorize("@menuPermissionService.hasReadPermission('MENU_MANAGEMENT')")
     public ResponseEntity<ApiResponse<Integer>> getTotalMenuCount() {
@@ -2,7 +2,10 @@ package com.basic.project.controller;
 
 import com.basic.project.enums.MenuCode;
 import com.basic.project.service.ApiMonitoringService;
+import com.basic.project.service.CacheMonitoringService;
+import com.basic.project.service.ExecutorMonitoringService;
 import com.basic.project.service.MenuPermissionService;
+import com.basic.project.service.SystemLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -26,6 +29,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.basic.project.dto.ApiResponse;
+import com.basic.project.dto.LogRetentionResult;
 
 @Tag(name = "시스템 모니터링", description = "API 성능 및 시스템 상태 모니터링")
 @Slf4j
@@ -36,6 +40,9 @@ import com.basic.project.dto.ApiResponse;
 public class MonitoringController {
     
     private final ApiMonitoringService apiMonitoringService;
+    private final CacheMonitoringService cacheMonitoringService;
+    private final ExecutorMonitoringService executorMonitoringService;
+    private final SystemLogService systemLogService;
     private final MenuPermissionService menuPermissionService;
     private final MetricsEndpoint metricsEndpoint;
     private final HealthEndpoint healthEndpoint;
@@ -152,6 +159,62 @@ public class MonitoringController {
         }
     }
     
+    /**
+     * 캐시별 통계 조회 (적중률, 미스, 제거 건수, 크기, 적재 시간, 무효화 건수)
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStatistics(Authentication authentication) {
+        try {
+            String username = authentication.getName();
+            
+            // 시스템 모니터링 권한 확인
+            if (!menuPermissionService.hasReadPermission(username, MenuCode.SYSTEM_MONITORING)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("403", NO_MONITORING_PERMISSION_MESSAGE));
+            }
+            
+            Map<String, Object> caches = cacheMonitoringService.getCacheStatistics();
+            
+            return ResponseEntity.ok(ApiResponse.success("캐시 통계 조회 성공", caches));
+            
+        } catch (Exception e) {
+            log.error("캐시 통계 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "캐시 통계 조회 중 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 지정한 캐시 비우기
+     */
+    @PostMapping("/caches/{cacheName}/clear")
+    public ResponseEntity<ApiResponse<String>> clearCache(
+            @PathVariable String cacheName,
+            Authentication authentication) {
+        try {
+            String username = authentication.getName();
+            
+            // 시스템 모니터링 권한 확인
+            if (!menuPermissionService.hasWritePermission(username, MenuCode.SYSTEM_MONITORING)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("403", NO_MONITORING_PERMISSION_MESSAGE));
+            }
+            
+            if (!cacheMonitoringService.clearCache(cacheName)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("404", "존재하지 않는 캐시입니다: " + cacheName));
+            }
+            
+            log.info("캐시 비우기 - 캐시: {}, 요청자: {}", cacheName, username);
+            return ResponseEntity.ok(ApiResponse.success("캐시가 성공적으로 비워졌습니다"));
+            
+        } catch (Exception e) {
+            log.error("캐시 비우기 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "캐시 비우기 중 오류가 발생했습니다"));
+        }
+    }
+    
     /**
      * 실시간 시스템 상태 조회 (향상된 버전)
      */
@@ -180,6 +243,15 @@ public class MonitoringController {
             // 건강 상태
             systemStatus.put("health", getHealthStatus());
             
+            // 실행기(스레드 풀) 상태
+            systemStatus.put("executors", executorMonitoringService.getExecutorStatistics());
+            
+            // 마지막 로그 보존 정리 결과
+            LogRetentionResult lastRetention = systemLogService.getLastRetentionResult();
+            if (lastRetention != null) {
+                systemStatus.put("logRetention", lastRetention);
+            }
+            
             systemStatus.put("timestamp", System.currentTimeMillis());
             
             return ResponseEntity.ok(ApiResponse.success("시스템 상태 조회 성공", systemStatus));
@@ -2,11 +2,17 @@ package com.basic.project.controller;
 
 import com.basic.project.domain.RoleMenu;
 import com.basic.project.dto.ApiResponse;
+import com.basic.project.dto.CursorPageResponse;
+import com.basic.project.dto.PermissionBatchCheckRequest;
+import com.basic.project.dto.PermissionBatchCheckResponse;
+import com.basic.project.service.MenuPermissionService;
 import com.basic.project.service.PermissionService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,6 +26,8 @@ public class PermissionController {
 
     private final PermissionService permissionService;
 
+    private final MenuPermissionService menuPermissionService;
+
     @GetMapping
     @PreAuthorize("@menuPermissionService.hasReadPermission('PERMISSION_MANAGEMENT')")
     public ResponseEntity<ApiResponse<List<RoleMenu>>> getAllPermissions() {
@@ -304,6 +312,26 @@ public class PermissionController {
         }
     }
 
+    /**
+     * 현재 사용자의 여러 메뉴 권한을 한 번에 확인 (메뉴 렌더링용)
+     * 응답 값은 메뉴별 권한 비트 (READ=1, WRITE=2, DELETE=4)
+     */
+    @PostMapping("/check/batch")
+    public ResponseEntity<ApiResponse<PermissionBatchCheckResponse>> checkPermissionsBatch(
+            @Valid @RequestBody PermissionBatchCheckRequest request,
+            Authentication authentication) {
+        try {
+            PermissionBatchCheckResponse response = PermissionBatchCheckResponse.builder()
+                    .menuCodes(menuPermissionService.getPermissionBitsByMenuCodes(authentication, request.getMenuCodes()))
+                    .menuIds(menuPermissionService.getPermissionBitsByMenuIds(authentication, request.getMenuIds()))
+                    .build();
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to check permissions: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/role/{roleId}/menus")
     @PreAuthorize("@menuPermissionService.hasReadPermission('PERMISSION_MANAGEMENT')")
     public ResponseEntity<ApiResponse<List<Long>>> getMenuIdsByRoleId(@PathVariable Long roleId) {
@@ -354,6 +382,26 @@ public class PermissionController {
         }
     }
 
+    /**
+     * 커서 페이지네이션 권한 조회 (cursor 파라미터가 있을 때, 첫 페이지는 빈 값)
+     */
+    @GetMapping(value = "/page", params = "cursor")
+    @PreAuthorize("@menuPermissionService.hasReadPermission('PERMISSION_MANAGEMENT')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<RoleMenu>>> getPermissionsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPageResponse<RoleMenu> permissions = permissionService.getPermissionsByCursor(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(permissions));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to fetch permissions with cursor: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/exists")
     @PreAuthorize("@menuPermissionService.hasReadPermission('PERMISSION_MANAGEMENT')")
     public ResponseEntity<ApiResponse<Boolean>> existsByRoleIdAndMenuId(
@@ -2,6 +2,7 @@ package com.basic.project.controller;
 
 import com.basic.project.domain.Role;
 import com.basic.project.dto.ApiResponse;
+import com.basic.project.dto.CursorPageResponse;
 import com.basic.project.service.RoleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -228,6 +229,26 @@ public class RoleController {
         }
     }
 
+    /**
+     * 커서 페이지네이션 역할 조회 (cursor 파라미터가 있을 때, 첫 페이지는 빈 값)
+     */
+    @GetMapping(value = "/page", params = "cursor")
+    @PreAuthorize("@menuPermissionService.canReadRoles()")
+    public ResponseEntity<ApiResponse<CursorPageResponse<Role>>> getRolesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPageResponse<Role> roles = roleService.getRolesByCursor(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(roles));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to fetch roles with cursor: " + e.getMessage()));
+        }
+    }
+
     @PostMapping("/{roleId}/assign-user/{userId}")
     @PreAuthorize("@menuPermissionService.canManageRoles()")
     public ResponseEntity<ApiResponse<Void>> assignRoleToUser(@PathVariable Long roleId, @PathVariable Long userId) {
@@ -2,20 +2,35 @@ package com.basic.project.controller;
 
 import com.basic.project.domain.SystemLog;
 import com.basic.project.dto.ApiResponse;
+import com.basic.project.dto.CursorPageResponse;
+import com.basic.project.dto.LogRetentionResult;
 import com.basic.project.dto.LogSearchRequest;
 import com.basic.project.dto.LogStatsResponse;
+import com.basic.project.dto.LogTimeSeriesPoint;
+import com.basic.project.security.JwtTokenProvider;
+import com.basic.project.service.LogExportService;
+import com.basic.project.service.LogStreamService;
 import com.basic.project.service.SystemLogService;
 import com.basic.project.service.MenuPermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -25,6 +40,11 @@ public class SystemLogController {
     
     private final SystemLogService systemLogService;
     private final MenuPermissionService menuPermissionService;
+    private final LogExportService logExportService;
+    private final LogStreamService logStreamService;
+    private final JwtTokenProvider jwtTokenProvider;
+    
+    private static final DateTimeFormatter EXPORT_FILENAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
     
     @GetMapping
     @PreAuthorize("@menuPermissionService.canReadLogs()")
@@ -41,6 +61,27 @@ public class SystemLogController {
         }
     }
     
+    /**
+     * 커서 페이지네이션 로그 조회 (cursor 파라미터가 있을 때, 첫 페이지는 빈 값)
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SystemLog>>> getLogsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPageResponse<SystemLog> logs = systemLogService.getLogsByCursor(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("로그 조회 성공", logs));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("400", e.getMessage()));
+        } catch (Exception e) {
+            log.error("로그 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "로그 조회에 실패했습니다"));
+        }
+    }
+    
     @PostMapping("/search")
     @PreAuthorize("@menuPermissionService.canReadLogs()")
     public ResponseEntity<ApiResponse<List<SystemLog>>> searchLogs(@RequestBody LogSearchRequest request) {
@@ -54,6 +95,54 @@ public class SystemLogController {
         }
     }
     
+    /**
+     * 커서 페이지네이션 로그 검색 - 검색 조건은 본문, 커서는 cursor 파라미터로 전달 (page는 무시)
+     */
+    @PostMapping(value = "/search", params = "cursor")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SystemLog>>> searchLogsByCursor(
+            @RequestBody LogSearchRequest request,
+            @RequestParam String cursor) {
+        return searchByCursor(request, cursor);
+    }
+    
+    @GetMapping(value = "/search", params = "cursor")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SystemLog>>> searchLogsByCursorGet(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String search,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        LogSearchRequest request = LogSearchRequest.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .level(level)
+                .username(username)
+                .action(action)
+                .search(search)
+                .size(size)
+                .build();
+        return searchByCursor(request, cursor);
+    }
+    
+    private ResponseEntity<ApiResponse<CursorPageResponse<SystemLog>>> searchByCursor(LogSearchRequest request, String cursor) {
+        try {
+            CursorPageResponse<SystemLog> logs = systemLogService.searchLogsByCursor(request, cursor);
+            return ResponseEntity.ok(ApiResponse.success("로그 검색 성공", logs));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("400", e.getMessage()));
+        } catch (Exception e) {
+            log.error("로그 검색 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "로그 검색에 실패했습니다"));
+        }
+    }
+    
     @GetMapping("/search")
     @PreAuthorize("@menuPermissionService.canReadLogs()")
     public ResponseEntity<ApiResponse<List<SystemLog>>> searchLogsGet(
@@ -63,6 +152,7 @@ public class SystemLogController {
             @RequestParam(required = false) String username,
             @RequestParam(required = false) String action,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
@@ -73,6 +163,7 @@ public class SystemLogController {
                     .username(username)
                     .action(action)
                     .search(search)
+                    .sort(sort)
                     .page(page)
                     .size(size)
                     .build();
@@ -86,6 +177,110 @@ public class SystemLogController {
         }
     }
     
+    /**
+     * 검색 조건에 맞는 로그 내보내기 (CSV / NDJSON, gzip=true면 .gz 파일)
+     * 결과를 메모리에 모으지 않고 조회하는 대로 응답에 기록
+     */
+    @GetMapping("/export")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<?> exportLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        try {
+            LogExportService.Format exportFormat = LogExportService.Format.from(format);
+            LogSearchRequest request = LogSearchRequest.builder()
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .level(level)
+                    .username(username)
+                    .action(action)
+                    .search(search)
+                    .build();
+            StreamingResponseBody body = logExportService.export(request, exportFormat, gzip);
+            
+            String filename = "system-logs-" + LocalDateTime.now().format(EXPORT_FILENAME_FORMAT)
+                    + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+            return ResponseEntity.ok()
+                    .contentType(gzip ? MediaType.parseMediaType("application/gzip")
+                            : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("400", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ApiResponse.error("429", e.getMessage()));
+        }
+    }
+    
+    /**
+     * 실시간 로그 스트림 연결용 토큰 발급 (수명 app.log-stream.token-ttl-seconds)
+     * 브라우저 EventSource는 Authorization 헤더를 보낼 수 없으므로 /stream?token=... 으로 전달 (연결할 때마다 새로 발급)
+     */
+    @PostMapping("/stream/token")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> issueStreamToken(Authentication authentication) {
+        try {
+            String token = jwtTokenProvider.generateLogStreamToken(authentication);
+            return ResponseEntity.ok(ApiResponse.success("스트림 토큰 발급 성공",
+                    Map.of("token", token, "expiresIn", jwtTokenProvider.getLogStreamTokenTtlSeconds())));
+        } catch (Exception e) {
+            log.error("스트림 토큰 발급 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "스트림 토큰 발급에 실패했습니다"));
+        }
+    }
+    
+    /**
+     * 실시간 로그 스트림 (Server-Sent Events) - 저장된 새 로그 중 조건에 맞는 것만 전송
+     * 이벤트: connected(연결 확인, resumed는 재연결 시 이어 받기 성공 여부), log(로그 한 건, id는 로그 ID), dropped(전송이 밀려 버린 로그 수)
+     * username, action은 부분 일치, 조건을 생략하면 모든 로그
+     * 인증: Authorization 헤더(fetch 등) 또는 token 파라미터(/stream/token으로 발급한 스트림 전용 토큰, EventSource)
+     * 재연결: Last-Event-ID 헤더(EventSource 자동 재연결) 또는 lastEventId 파라미터(새 토큰으로 다시 연결할 때) 이후 로그를 먼저 전송
+     * SseEmitter 응답은 본문 타입이 고정되어야 하므로 구독자 수 초과는 ApiResponse 대신 429 상태로 응답
+     */
+    @GetMapping("/stream")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<SseEmitter> streamLogs(
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String lastEventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader) {
+        try {
+            SseEmitter emitter = logStreamService.subscribe(level, username, action,
+                    parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventId));
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    // 프록시(nginx) 응답 버퍼링 해제
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+    
+    /**
+     * 이벤트 ID(로그 ID) 해석 - 비어 있거나 숫자가 아니면 이어 받지 않음
+     */
+    private static Long parseEventId(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(eventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
     @GetMapping("/stats")
     @PreAuthorize("@menuPermissionService.canReadLogs()")
     public ResponseEntity<ApiResponse<LogStatsResponse>> getLogStats() {
@@ -99,6 +294,51 @@ public class SystemLogController {
         }
     }
     
+    @GetMapping("/stats/hourly")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<ApiResponse<List<LogTimeSeriesPoint>>> getHourlyLogCounts(@RequestParam(defaultValue = "1") int days) {
+        try {
+            List<LogTimeSeriesPoint> series = systemLogService.getHourlyLogCounts(days);
+            return ResponseEntity.ok(ApiResponse.success("시간별 로그 수 조회 성공", series));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("400", e.getMessage()));
+        } catch (Exception e) {
+            log.error("시간별 로그 수 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "시간별 로그 수 조회에 실패했습니다"));
+        }
+    }
+    
+    @GetMapping("/stats/minutely")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<ApiResponse<List<LogTimeSeriesPoint>>> getMinuteLogCounts(@RequestParam(defaultValue = "60") int minutes) {
+        try {
+            List<LogTimeSeriesPoint> series = systemLogService.getMinuteLogCounts(minutes);
+            return ResponseEntity.ok(ApiResponse.success("분별 로그 수 조회 성공", series));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("400", e.getMessage()));
+        } catch (Exception e) {
+            log.error("분별 로그 수 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "분별 로그 수 조회에 실패했습니다"));
+        }
+    }
+    
+    @GetMapping("/count/today")
+    @PreAuthorize("@menuPermissionService.canReadLogs()")
+    public ResponseEntity<ApiResponse<Long>> getTodayCount() {
+        try {
+            long count = systemLogService.getTodayLogsCount();
+            return ResponseEntity.ok(ApiResponse.success("오늘 로그 수 조회 성공", count));
+        } catch (Exception e) {
+            log.error("오늘 로그 수 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("500", "오늘 로그 수 조회에 실패했습니다"));
+        }
+    }
+    
     @GetMapping("/count")
     @PreAuthorize("@menuPermissionService.canReadLogs()")
     public ResponseEntity<ApiResponse<Integer>> getTotalCount() {
@@ -127,10 +367,16 @@ public class SystemLogController {
     
     @DeleteMapping("/cleanup")
     @PreAuthorize("@menuPermissionService.canDeleteLogs()")
-    public ResponseEntity<ApiResponse<String>> deleteOldLogs(@RequestParam(defaultValue = "30") int days) {
+    public ResponseEntity<ApiResponse<LogRetentionResult>> deleteOldLogs(@RequestParam(defaultValue = "30") int days) {
         try {
-            systemLogService.deleteOldLogs(days);
-            return ResponseEntity.ok(ApiResponse.success("오래된 로그 삭제 성공"));
+            LogRetentionResult result = systemLogService.deleteOldLogs(days);
+            return ResponseEntity.ok(ApiResponse.success("오래된 로그 삭제 성공", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("400", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("409", e.getMessage()));
         } catch (Exception e) {
             log.error("오래된 로그 삭제 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
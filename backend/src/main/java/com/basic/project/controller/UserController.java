@@ -2,6 +2,7 @@ package com.basic.project.controller;
 
 import com.basic.project.domain.User;
 import com.basic.project.dto.ApiResponse;
+import com.basic.project.dto.CursorPageResponse;
 import com.basic.project.dto.CreateUserRequest;
 import com.basic.project.service.UserService;
 import com.basic.project.service.MenuPermissionService;
@@ -272,6 +273,26 @@ public class UserController {
                     .body(ApiResponse.error("Failed to fetch users with pagination: " + e.getMessage()));
         }
     }
+
+    /**
+     * 커서 페이지네이션 사용자 조회 (cursor 파라미터가 있을 때, 첫 페이지는 빈 값)
+     */
+    @GetMapping(value = "/page", params = "cursor")
+    @PreAuthorize("@menuPermissionService.canReadUsers()")
+    public ResponseEntity<ApiResponse<CursorPageResponse<User>>> getUsersByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            CursorPageResponse<User> users = userService.getUsersByCursor(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(users));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to fetch users with cursor: " + e.getMessage()));
+        }
+    }
     
     @PutMapping("/{id}/reset-password")
     @PreAuthorize("@menuPermissionService.canManageUsers()")
@@ -0,0 +1,40 @@
+package com.basic.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지네이션 응답
+ * 다음 페이지가 있으면 nextCursor를 다음 요청의 cursor로 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    /**
+     * size + 1건 조회 결과로 응답 생성 (초과분이 있으면 다음 페이지 있음)
+     * @param rows size + 1건까지 조회한 결과
+     * @param cursorOf 마지막 항목의 커서 생성
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .nextCursor(hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null)
+                .hasNext(hasNext)
+                .size(items.size())
+                .build();
+    }
+}
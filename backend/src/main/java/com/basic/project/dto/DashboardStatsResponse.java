@@ -1,10 +1,17 @@
 package com.basic.project.dto;
 
-import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
-@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
 public class DashboardStatsResponse {
     private int totalUsers;
     private int activeUsers;
@@ -16,4 +23,12 @@ public class DashboardStatsResponse {
     private int totalPermissions;
     private int totalLogs;
     private int todayLogs;
-}
\ No newline at end of file
+
+    // 조회에 실패하거나 제한 시간을 넘겨 값이 없는(또는 이전 값인) 섹션 (users, roles, menus, permissions, logs)
+    private List<String> unavailableSections;
+
+    // 스냅샷 생성 시각과 나이 (백그라운드 갱신 스냅샷 기준)
+    private LocalDateTime snapshotAt;
+    private long snapshotAgeMs;
+    private boolean stale;
+}
@@ -0,0 +1,21 @@
+package com.basic.project.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 사용자의 메뉴별 유효 권한
+ * 사용자가 가진 모든 역할의 권한을 OR로 합산한 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EffectiveMenuPermission {
+    private Long menuId;
+    private String menuCode;
+    private String menuName;
+    private Boolean canRead;
+    private Boolean canWrite;
+    private Boolean canDelete;
+}
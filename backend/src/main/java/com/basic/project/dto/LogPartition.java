@@ -0,0 +1,19 @@
+package com.basic.project.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * system_logs 파티션 (RANGE COLUMNS(created_at))
+ * description은 VALUES LESS THAN 값 그대로 ('2026-01-02 00:00:00' 형식, 마지막 파티션은 MAXVALUE)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LogPartition {
+    private String name;
+    private String description;
+}
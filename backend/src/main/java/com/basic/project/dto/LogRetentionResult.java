@@ -0,0 +1,24 @@
+package com.basic.project.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LogRetentionResult {
+    private String mode;
+    private LocalDateTime cutoff;
+    private long deletedRows;
+    private int batches;
+    private List<String> droppedPartitions;
+    // 최대 실행 시간 안에 cutoff 이전 로그를 모두 정리했는지 (false면 다음 실행에서 이어서 정리)
+    private boolean completed;
+    private long durationMs;
+}
@@ -18,6 +18,8 @@ public class LogSearchRequest {
     private String username;
     private String action;
     private String search;
+    // 정렬: latest(기본, 최신순) / relevance(검색어 관련도순, 전문 검색일 때만 적용, 커서 페이지네이션/내보내기는 항상 최신순)
+    private String sort;
     private int page = 0;
     private int size = 20;
 }
\ No newline at end of file
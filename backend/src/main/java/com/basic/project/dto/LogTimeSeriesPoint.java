@@ -0,0 +1,21 @@
+package com.basic.project.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LogTimeSeriesPoint {
+    // 구간 시작 시각 (분 또는 시간 단위)
+    private LocalDateTime bucketStart;
+    private long total;
+    private long info;
+    private long warning;
+    private long error;
+}
@@ -0,0 +1,87 @@
+package com.basic.project.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 커서(keyset) 페이지네이션용 불투명 커서
+ * 마지막으로 반환한 행의 정렬 키 값들을 '|'로 이어 Base64(URL-safe)로 인코딩
+ * 클라이언트는 값을 해석하지 않고 nextCursor를 그대로 다음 요청의 cursor로 전달
+ */
+public final class PageCursor {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] keys;
+
+    private PageCursor(String[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * 정렬 키 값들로 커서 생성
+     */
+    public static String encode(Object... keys) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object key : keys) {
+            joiner.add(String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @param keyCount 정렬 키 개수
+     * @return 첫 페이지이면 null
+     * @throws IllegalArgumentException 올바르지 않은 커서
+     */
+    public static PageCursor decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        String[] keys = decoded.split("\\" + SEPARATOR, -1);
+        if (keys.length != keyCount) {
+            throw invalid();
+        }
+        return new PageCursor(keys);
+    }
+
+    public static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다");
+        }
+    }
+
+    public Long getLong(int index) {
+        try {
+            return Long.valueOf(keys[index]);
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(keys[index]);
+        } catch (DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("올바르지 않은 커서입니다");
+    }
+}
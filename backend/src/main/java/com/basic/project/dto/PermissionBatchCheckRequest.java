@@ -0,0 +1,24 @@
+package com.basic.project.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 메뉴 권한 일괄 확인 요청
+ * 메뉴 코드 또는 메뉴 ID 목록 중 하나 이상을 지정
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PermissionBatchCheckRequest {
+    
+    @Size(max = 500, message = "메뉴 코드는 최대 500개까지 확인할 수 있습니다")
+    private List<String> menuCodes;
+    
+    @Size(max = 500, message = "메뉴 ID는 최대 500개까지 확인할 수 있습니다")
+    private List<Long> menuIds;
+}
@@ -0,0 +1,23 @@
+package com.basic.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * 메뉴 권한 일괄 확인 응답
+ * 메뉴별 권한 비트 (READ=1, WRITE=2, DELETE=4)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class PermissionBatchCheckResponse {
+    private Map<String, Integer> menuCodes;
+    private Map<Long, Integer> menuIds;
+}
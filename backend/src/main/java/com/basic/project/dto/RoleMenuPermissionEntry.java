@@ -0,0 +1,22 @@
+package com.basic.project.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 역할-메뉴 권한 매트릭스 적재용 항목
+ * role_menus에 역할명과 메뉴 코드/메뉴명을 함께 조인한 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleMenuPermissionEntry {
+    private String roleName;
+    private Long menuId;
+    private String menuCode;
+    private String menuName;
+    private Boolean canRead;
+    private Boolean canWrite;
+    private Boolean canDelete;
+}
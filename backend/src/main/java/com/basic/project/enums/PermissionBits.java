@@ -0,0 +1,45 @@
+package com.basic.project.enums;
+
+/**
+ * 메뉴 권한 비트 플래그 정의
+ * role_menus 테이블의 can_read, can_write, can_delete 값을 하나의 정수로 표현
+ */
+public final class PermissionBits {
+
+    // 권한 비트
+    public static final int NONE = 0;
+    public static final int READ = 1;
+    public static final int WRITE = 1 << 1;
+    public static final int DELETE = 1 << 2;
+
+    // 조합 권한
+    public static final int MANAGE = READ | WRITE;
+    public static final int FULL = READ | WRITE | DELETE;
+
+    /**
+     * 개별 권한 값을 비트 플래그로 변환
+     */
+    public static int of(Boolean canRead, Boolean canWrite, Boolean canDelete) {
+        int bits = NONE;
+        if (Boolean.TRUE.equals(canRead)) {
+            bits |= READ;
+        }
+        if (Boolean.TRUE.equals(canWrite)) {
+            bits |= WRITE;
+        }
+        if (Boolean.TRUE.equals(canDelete)) {
+            bits |= DELETE;
+        }
+        return bits;
+    }
+
+    /**
+     * 부여된 권한이 요구 권한을 모두 포함하는지 확인
+     */
+    public static boolean covers(int granted, int required) {
+        return (granted & required) == required;
+    }
+
+    // 인스턴스 생성 방지
+    private PermissionBits() {}
+}
@@ -0,0 +1,97 @@
+package com.basic.project.interceptor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * MyBatis 문장 취소 플러그인 (mybatis-spring-boot-starter가 Interceptor 빈을 자동 등록)
+ * track()으로 연 범위 안에서 준비된 JDBC 문장을 기록해 두었다가 cancel()로 서버 실행을 중단
+ * - 스트리밍 조회(fetchSize=Integer.MIN_VALUE)의 Cursor를 그냥 닫으면 MySQL 드라이버가 남은 행을 모두 읽은 뒤에야 반환하므로,
+ *   중간에 멈출 때는 먼저 문장을 취소(KILL QUERY)해 서버가 전송을 멈추게 함
+ * - track(queryTimeoutSeconds)로 연 범위에서는 매퍼의 timeout 대신 호출자가 정한 문장 제한 시간을 적용
+ */
+@Slf4j
+@Component
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+public class StatementCancelInterceptor implements Interceptor {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        Scope scope = CURRENT.get();
+        if (scope != null && result instanceof Statement statement) {
+            if (scope.queryTimeoutSeconds > 0) {
+                statement.setQueryTimeout(scope.queryTimeoutSeconds);
+            }
+            scope.statement = statement;
+        }
+        return result;
+    }
+
+    /**
+     * 현재 스레드에서 준비되는 문장을 기록하기 시작 (try-with-resources로 닫기)
+     */
+    public Scope track() {
+        return track(0);
+    }
+
+    /**
+     * 문장 기록을 시작하고, 범위 안에서 준비되는 문장에 제한 시간 적용 (try-with-resources로 닫기)
+     * @param queryTimeoutSeconds 문장 제한 시간(초), 0이면 매퍼 설정 유지
+     */
+    public Scope track(int queryTimeoutSeconds) {
+        Scope scope = new Scope(CURRENT.get(), queryTimeoutSeconds);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 문장 기록 범위 - 마지막으로 준비된 문장을 취소할 수 있음
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+        private final int queryTimeoutSeconds;
+        private volatile Statement statement;
+
+        private Scope(Scope previous, int queryTimeoutSeconds) {
+            this.previous = previous;
+            this.queryTimeoutSeconds = queryTimeoutSeconds;
+        }
+
+        /**
+         * 실행 중인 문장 취소 (취소 실패는 기록만 하고 무시 - 이후 Cursor를 닫을 때 남은 행을 읽게 됨)
+         */
+        public void cancel() {
+            Statement current = statement;
+            if (current == null) {
+                return;
+            }
+            try {
+                current.cancel();
+            } catch (SQLException e) {
+                log.warn("실행 중인 문장 취소 실패", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
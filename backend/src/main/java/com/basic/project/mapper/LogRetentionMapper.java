@@ -0,0 +1,34 @@
+package com.basic.project.mapper;
+
+import com.basic.project.dto.LogPartition;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface LogRetentionMapper {
+    
+    Long findFirstIdSince(@Param("cutoff") LocalDateTime cutoff);
+    
+    Long findMaxId();
+    
+    Long findPurgeUpperId(@Param("afterId") long afterId, @Param("boundaryId") long boundaryId, @Param("batchSize") int batchSize);
+    
+    int deleteLogsInRange(@Param("afterId") long afterId, @Param("upperId") long upperId, @Param("cutoff") LocalDateTime cutoff);
+    
+    LocalDateTime findOldestCreatedAt();
+    
+    // ===== 파티션 모드 =====
+    
+    List<LogPartition> findPartitions();
+    
+    long countPartitionRows(@Param("name") String name);
+    
+    int dropPartition(@Param("name") String name);
+    
+    int reorganizeMaxPartition(@Param("maxPartition") String maxPartition, @Param("partitions") List<LogPartition> partitions);
+    
+    int addPartitions(@Param("partitions") List<LogPartition> partitions);
+}
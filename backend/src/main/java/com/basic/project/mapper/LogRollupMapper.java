@@ -0,0 +1,39 @@
+package com.basic.project.mapper;
+
+import com.basic.project.dto.LogStatsResponse;
+import com.basic.project.dto.LogTimeSeriesPoint;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface LogRollupMapper {
+    
+    int insertStateIfAbsent();
+    
+    long lockLastRolledUpId();
+    
+    Long findRollupUpperId(@Param("lastId") long lastId, @Param("lagSeconds") int lagSeconds, @Param("batchSize") int batchSize);
+    
+    int rollupMinutes(@Param("lastId") long lastId, @Param("upperId") long upperId);
+    
+    int rollupHours(@Param("lastId") long lastId, @Param("upperId") long upperId);
+    
+    int updateLastRolledUpId(@Param("lastId") long lastId);
+    
+    long countPending();
+    
+    LogStatsResponse getStats();
+    
+    long countSince(@Param("from") LocalDateTime from);
+    
+    List<LogTimeSeriesPoint> getHourlySeries(@Param("from") LocalDateTime from);
+    
+    List<LogTimeSeriesPoint> getMinuteSeries(@Param("from") LocalDateTime from);
+    
+    int deleteMinuteBucketsBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    int deleteHourBucketsBefore(@Param("cutoff") LocalDateTime cutoff);
+}
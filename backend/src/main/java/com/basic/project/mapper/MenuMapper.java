@@ -38,6 +38,8 @@ public interface MenuMapper {
     
     List<Menu> findWithPagination(@Param("offset") int offset, @Param("limit") int limit);
     
+    List<Menu> findAfterCursor(@Param("cursorId") Long cursorId, @Param("limit") int limit);
+    
     List<Menu> search(@Param("keyword") String keyword);
     
     boolean hasChildren(Long parentId);
@@ -30,6 +30,8 @@ public interface RoleMapper {
     
     List<Role> findWithPagination(@Param("offset") int offset, @Param("limit") int limit);
     
+    List<Role> findAfterCursor(@Param("cursorId") Long cursorId, @Param("limit") int limit);
+    
     int assignRoleToUser(@Param("userId") Long userId, @Param("roleId") Long roleId);
     
     int removeRoleFromUser(@Param("userId") Long userId, @Param("roleId") Long roleId);
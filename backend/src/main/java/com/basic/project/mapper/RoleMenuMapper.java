@@ -1,6 +1,8 @@
 package com.basic.project.mapper;
 
 import com.basic.project.domain.RoleMenu;
+import com.basic.project.dto.EffectiveMenuPermission;
+import com.basic.project.dto.RoleMenuPermissionEntry;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -48,9 +50,21 @@ public interface RoleMenuMapper {
     
     List<RoleMenu> findWithPagination(@Param("offset") int offset, @Param("limit") int limit);
     
+    List<RoleMenu> findAfterCursor(@Param("cursorRoleId") Long cursorRoleId,
+                                   @Param("cursorMenuId") Long cursorMenuId,
+                                   @Param("limit") int limit);
+    
     boolean existsByRoleIdAndMenuId(@Param("roleId") Long roleId, @Param("menuId") Long menuId);
     
     List<RoleMenu> findByRoleIdWithMenuDetails(Long roleId);
     
     List<RoleMenu> findByMenuIdWithRoleDetails(Long menuId);
+    
+    List<RoleMenuPermissionEntry> findAllPermissionEntries();
+    
+    EffectiveMenuPermission findEffectivePermission(@Param("username") String username, 
+                                                    @Param("menuCode") String menuCode, 
+                                                    @Param("menuName") String menuName);
+    
+    List<EffectiveMenuPermission> findEffectivePermissionsByUsername(String username);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.basic.project.mapper;
+
+import com.basic.project.dto.DashboardStatsResponse;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface StatisticsMapper {
+    
+    DashboardStatsResponse getCoreCounts();
+    
+    DashboardStatsResponse getLogCounts();
+}
@@ -5,6 +5,7 @@ import com.basic.project.dto.LogSearchRequest;
 import com.basic.project.dto.LogStatsResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,15 +15,43 @@ public interface SystemLogMapper {
     
     void insert(SystemLog systemLog);
     
+    int batchInsert(List<SystemLog> systemLogs);
+    
     List<SystemLog> findAll();
     
     List<SystemLog> findWithPagination(@Param("offset") int offset, @Param("limit") int limit);
     
-    List<SystemLog> search(LogSearchRequest request);
+    /**
+     * 커서 이후 로그 조회 ((created_at, id) 내림차순)
+     * @param cursorCreatedAt 커서 행의 생성 시각 (null이면 첫 페이지)
+     */
+    List<SystemLog> findAfterCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                    @Param("cursorId") Long cursorId,
+                                    @Param("limit") int limit);
+    
+    /**
+     * @param fullTextQuery 전문 검색식 (null이면 검색어를 LIKE로 조회) - LogFullTextSearch.toQuery
+     */
+    List<SystemLog> search(@Param("request") LogSearchRequest request, @Param("fullTextQuery") String fullTextQuery);
+    
+    List<SystemLog> searchAfterCursor(@Param("request") LogSearchRequest request,
+                                      @Param("fullTextQuery") String fullTextQuery,
+                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      @Param("limit") int limit);
+    
+    /**
+     * 검색 조건에 맞는 로그를 한 건씩 스트리밍 조회 (트랜잭션 안에서 사용, 읽는 동안 연결 점유)
+     */
+    Cursor<SystemLog> streamBySearch(@Param("request") LogSearchRequest request, @Param("fullTextQuery") String fullTextQuery);
     
     int count();
     
-    int countBySearch(LogSearchRequest request);
+    int countBySearch(@Param("request") LogSearchRequest request, @Param("fullTextQuery") String fullTextQuery);
+    
+    int countFullTextIndexes();
+    
+    int countPartitions();
     
     long countByLevel(@Param("level") String level);
     
@@ -31,6 +60,4 @@ public interface SystemLogMapper {
     int getTodayLogsCount();
     
     int countByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-    
-    void deleteOldLogs(@Param("days") int days);
 }
\ No newline at end of file
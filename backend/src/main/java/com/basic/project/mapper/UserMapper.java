@@ -5,6 +5,7 @@ import com.basic.project.domain.Role;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,6 +45,10 @@ public interface UserMapper {
     
     List<User> findWithPagination(@Param("offset") int offset, @Param("limit") int limit);
     
+    List<User> findAfterCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                               @Param("cursorId") Long cursorId,
+                               @Param("limit") int limit);
+    
     // 최적화된 메서드들
     List<User> findAllWithRoles();
     
@@ -58,4 +63,10 @@ public interface UserMapper {
     List<String> findRolesByUserId(Long userId);
     
     Role findRoleByName(String roleName);
+    
+    Long findSecurityVersion(Long id);
+    
+    int incrementSecurityVersion(Long id);
+    
+    int incrementSecurityVersionByRoleId(Long roleId);
 }
\ No newline at end of file
@@ -21,6 +21,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    
+    // 실시간 로그 스트림 (EventSource는 헤더를 보낼 수 없어 스트림 전용 토큰을 쿼리 파라미터로 받음)
+    private static final String LOG_STREAM_URI = "/api/logs/stream";
+    private static final String LOG_STREAM_TOKEN_PARAMETER = "token";
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -40,16 +45,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (StringUtils.hasText(jwt)) {
+                // 이미 검증된 토큰이면 서명 검증과 사용자 조회 생략
+                UserDetails userDetails = tokenAuthenticationCache.get(jwt);
                 
-                UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (userDetails == null) {
+                    // 조회 도중 사용자 무효화가 일어나면 캐싱하지 않도록 조회 전 세대 기록
+                    long cacheGeneration = tokenAuthenticationCache.currentGeneration();
+                    JwtVerificationResult verification = tokenProvider.verifyToken(jwt);
+                    
+                    if (verification.isValid() && tokenProvider.isLogStreamToken(verification.claims())) {
+                        // URL로 전달되는 스트림 전용 토큰은 Authorization 헤더로 사용할 수 없음 (캐시에도 넣지 않음)
+                        log.debug("Log stream token rejected in Authorization header: {}", requestURI);
+                    } else if (verification.isValid()) {
+                        userDetails = resolveUserDetails(verification);
+                        if (userDetails != null) {
+                            tokenAuthenticationCache.put(jwt, userDetails, verification.claims().getExpiration(), cacheGeneration);
+                        }
+                    } else {
+                        log.debug("JWT verification failed: {}", verification.failureReason());
+                    }
+                }
                 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (userDetails != null) {
+                    setAuthentication(request, userDetails);
+                }
+            } else if (isLogStreamRequest(request)) {
+                UserDetails userDetails = resolveLogStreamToken(request.getParameter(LOG_STREAM_TOKEN_PARAMETER));
+                if (userDetails != null) {
+                    setAuthentication(request, userDetails);
+                }
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -58,6 +83,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    private void setAuthentication(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authentication = 
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+    
+    private boolean isLogStreamRequest(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && LOG_STREAM_URI.equals(request.getRequestURI());
+    }
+    
+    /**
+     * 스트림 전용 토큰(JwtTokenProvider.generateLogStreamToken)만 허용 - 일반 액세스 토큰은 URL에 넣을 수 없음
+     * 연결 시작에만 확인하므로 인증 캐시를 사용하지 않음
+     */
+    private UserDetails resolveLogStreamToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        JwtVerificationResult verification = tokenProvider.verifyToken(token);
+        if (!verification.isValid()) {
+            log.debug("Log stream token verification failed: {}", verification.failureReason());
+            return null;
+        }
+        if (!tokenProvider.isLogStreamToken(verification.claims())) {
+            log.debug("Access token rejected in log stream query parameter");
+            return null;
+        }
+        return resolveUserDetails(verification);
+    }
+    
+    /**
+     * 무상태 모드에서는 클레임으로 사용자 정보를 복원하고, 그 외에는 DB에서 조회
+     * 보안 버전이 만료된 토큰은 null 반환
+     */
+    private UserDetails resolveUserDetails(JwtVerificationResult verification) {
+        if (tokenProvider.isStatelessAuthentication()) {
+            UserPrincipal principal = tokenProvider.getPrincipalFromClaims(verification.claims());
+            if (principal != null) {
+                return principal;
+            }
+            if (tokenProvider.hasPrincipalClaims(verification.claims())) {
+                // 클레임은 있으나 보안 버전이 맞지 않는 토큰
+                return null;
+            }
+        }
+        return userDetailsService.loadUserByUsername(verification.getUsername());
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -2,42 +2,60 @@ package com.basic.project.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.List;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     
+    // 무상태 인증용 클레임
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_SECURITY_VERSION = "sv";
+    private static final String ROLE_PREFIX = "ROLE_";
+    // 실시간 로그 스트림 연결 전용 토큰 (EventSource는 Authorization 헤더를 보낼 수 없어 쿼리 파라미터로 전달)
+    private static final String CLAIM_TOKEN_TYPE = "typ";
+    private static final String TOKEN_TYPE_LOG_STREAM = "log-stream";
+    
     private final SecretKey key;
+    private final JwtParser jwtParser;
     private final long jwtExpirationInMs;
     private final long refreshExpirationInMs;
+    private final long logStreamTokenTtlSeconds;
+    private final boolean statelessAuthentication;
+    private final SecurityVersionRegistry securityVersionRegistry;
     
     public JwtTokenProvider(
             @Value("${jwt.secret}") String jwtSecret,
             @Value("${jwt.expiration}") long jwtExpirationInMs,
-            @Value("${jwt.refresh-expiration}") long refreshExpirationInMs) {
+            @Value("${jwt.refresh-expiration}") long refreshExpirationInMs,
+            @Value("${app.security.jwt.stateless:false}") boolean statelessAuthentication,
+            @Value("${app.log-stream.token-ttl-seconds:60}") long logStreamTokenTtlSeconds,
+            SecurityVersionRegistry securityVersionRegistry) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        // 파서는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
         this.jwtExpirationInMs = jwtExpirationInMs;
         this.refreshExpirationInMs = refreshExpirationInMs;
+        this.logStreamTokenTtlSeconds = logStreamTokenTtlSeconds;
+        this.statelessAuthentication = statelessAuthentication;
+        this.securityVersionRegistry = securityVersionRegistry;
     }
     
     public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
-        
-        return Jwts.builder()
-                .subject(userPrincipal.getUsername())
-                .issuedAt(new Date())
-                .expiration(expiryDate)
-                .signWith(key, Jwts.SIG.HS512)
-                .compact();
+        return generateToken((UserDetails) authentication.getPrincipal());
     }
     
     public String generateRefreshToken(Authentication authentication) {
@@ -53,14 +71,51 @@ public class JwtTokenProvider {
     }
     
     public String generateToken(UserDetails userDetails) {
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
+        return accessTokenBuilder(userDetails, jwtExpirationInMs)
+                .signWith(key, Jwts.SIG.HS512)
+                .compact();
+    }
+    
+    /**
+     * 실시간 로그 스트림 연결 전용 토큰 - 수명이 짧고 GET /api/logs/stream의 token 파라미터로만 사용 가능 (JwtAuthenticationFilter)
+     */
+    public String generateLogStreamToken(Authentication authentication) {
+        return accessTokenBuilder((UserDetails) authentication.getPrincipal(), logStreamTokenTtlSeconds * 1000)
+                .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_LOG_STREAM)
+                .signWith(key, Jwts.SIG.HS512)
+                .compact();
+    }
+    
+    public boolean isLogStreamToken(Claims claims) {
+        return TOKEN_TYPE_LOG_STREAM.equals(claims.get(CLAIM_TOKEN_TYPE, String.class));
+    }
+    
+    public long getLogStreamTokenTtlSeconds() {
+        return logStreamTokenTtlSeconds;
+    }
+    
+    private JwtBuilder accessTokenBuilder(UserDetails userDetails, long expirationInMs) {
+        Date expiryDate = new Date(System.currentTimeMillis() + expirationInMs);
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date())
-                .expiration(expiryDate)
-                .signWith(key, Jwts.SIG.HS512)
-                .compact();
+                .expiration(expiryDate);
+        
+        // 무상태 인증 모드에서 DB 조회 없이 사용자 정보를 복원할 수 있도록 클레임 추가
+        // (꺼져 있으면 보안 버전을 조회하지 않음 - security_version 컬럼이 없는 DB에서도 로그인 가능)
+        if (statelessAuthentication && userDetails instanceof UserPrincipal userPrincipal && userPrincipal.getId() != null) {
+            List<String> roleNames = userPrincipal.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .map(authority -> authority.startsWith(ROLE_PREFIX) ? authority.substring(ROLE_PREFIX.length()) : authority)
+                    .toList();
+            
+            builder.claim(CLAIM_USER_ID, userPrincipal.getId())
+                    .claim(CLAIM_ROLES, roleNames)
+                    .claim(CLAIM_SECURITY_VERSION, securityVersionRegistry.getVersion(userPrincipal.getId()));
+        }
+        
+        return builder;
     }
     
     public String generateRefreshToken(UserDetails userDetails) {
@@ -74,35 +129,65 @@ public class JwtTokenProvider {
                 .compact();
     }
     
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getSubject();
-    }
-    
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 파싱하여 서명 검증과 클레임 추출을 함께 수행
+     */
+    public JwtVerificationResult verifyToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            return JwtVerificationResult.valid(claims);
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
+            return JwtVerificationResult.invalid(JwtVerificationResult.FailureReason.INVALID_SIGNATURE);
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
+            return JwtVerificationResult.invalid(JwtVerificationResult.FailureReason.MALFORMED);
         } catch (ExpiredJwtException ex) {
             log.error("Expired JWT token");
+            return JwtVerificationResult.invalid(JwtVerificationResult.FailureReason.EXPIRED);
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+            return JwtVerificationResult.invalid(JwtVerificationResult.FailureReason.UNSUPPORTED);
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+            return JwtVerificationResult.invalid(JwtVerificationResult.FailureReason.EMPTY);
+        } catch (JwtException ex) {
+            log.error("Invalid JWT token");
+            return JwtVerificationResult.invalid(JwtVerificationResult.FailureReason.MALFORMED);
         }
-        return false;
+    }
+    
+    /**
+     * 클레임으로부터 UserPrincipal 복원 (무상태 인증 모드)
+     * 필요한 클레임이 없거나 보안 버전이 현재 버전과 다르면 null 반환
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        Long tokenVersion = claims.get(CLAIM_SECURITY_VERSION, Long.class);
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        
+        if (userId == null || tokenVersion == null || roles == null) {
+            return null;
+        }
+        
+        if (!securityVersionRegistry.isCurrent(userId, tokenVersion)) {
+            log.debug("Revoked JWT token: userId={}, tokenVersion={}", userId, tokenVersion);
+            return null;
+        }
+        
+        List<String> roleNames = roles.stream().map(String::valueOf).toList();
+        return UserPrincipalFactory.fromClaims(userId, claims.getSubject(), roleNames);
+    }
+    
+    /**
+     * 무상태 인증용 클레임이 포함된 토큰인지 확인
+     */
+    public boolean hasPrincipalClaims(Claims claims) {
+        return claims.containsKey(CLAIM_USER_ID);
+    }
+    
+    public boolean isStatelessAuthentication() {
+        return statelessAuthentication;
     }
     
     public long getExpirationTime() {
@@ -0,0 +1,37 @@
+package com.basic.project.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 검증 결과
+ * 서명 검증과 클레임 추출을 한 번의 파싱으로 처리하고, 실패 시 사유를 함께 반환
+ */
+public record JwtVerificationResult(Claims claims, FailureReason failureReason) {
+
+    /**
+     * 검증 실패 사유
+     */
+    public enum FailureReason {
+        INVALID_SIGNATURE,
+        MALFORMED,
+        EXPIRED,
+        UNSUPPORTED,
+        EMPTY
+    }
+
+    public static JwtVerificationResult valid(Claims claims) {
+        return new JwtVerificationResult(claims, null);
+    }
+
+    public static JwtVerificationResult invalid(FailureReason failureReason) {
+        return new JwtVerificationResult(null, failureReason);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+
+    public String getUsername() {
+        return claims != null ? claims.getSubject() : null;
+    }
+}
@@ -0,0 +1,124 @@
+package com.basic.project.security;
+
+import com.basic.project.annotation.HasMenuPermission;
+import com.basic.project.enums.PermissionBits;
+import com.basic.project.service.MenuPermissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * HasMenuPermission 계열 어노테이션 기반 메서드 인가 관리자
+ * 메서드별 (메뉴 코드, 요구 권한 비트)를 시작 시 한 번만 해석해 보관하고
+ * 호출 시에는 SpEL 평가 없이 사용자의 유효 권한 비트와 비교만 수행
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MenuPermissionAuthorizationManager
+        implements AuthorizationManager<MethodInvocation>, ApplicationListener<ContextRefreshedEvent> {
+
+    // 어노테이션별 요구 권한 비트
+    private static final Map<Class<? extends Annotation>, Integer> REQUIRED_BITS = new LinkedHashMap<>();
+    static {
+        REQUIRED_BITS.put(HasMenuPermission.Read.class, PermissionBits.READ);
+        REQUIRED_BITS.put(HasMenuPermission.Access.class, PermissionBits.READ);
+        REQUIRED_BITS.put(HasMenuPermission.Write.class, PermissionBits.MANAGE);
+        REQUIRED_BITS.put(HasMenuPermission.Manage.class, PermissionBits.MANAGE);
+        REQUIRED_BITS.put(HasMenuPermission.Delete.class, PermissionBits.DELETE);
+        REQUIRED_BITS.put(HasMenuPermission.Full.class, PermissionBits.FULL);
+    }
+
+    // 권한 어노테이션이 없는 메서드 표시용
+    private static final MenuPermissionAttribute NO_ATTRIBUTE = new MenuPermissionAttribute(null, PermissionBits.NONE);
+
+    private final ObjectProvider<MenuPermissionService> menuPermissionService;
+
+    private final Map<Method, MenuPermissionAttribute> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * HasMenuPermission 어노테이션(메타 어노테이션 포함)이 붙은 메서드에만 적용되는 포인트컷
+     */
+    public static Pointcut pointcut() {
+        ComposablePointcut pointcut = null;
+        for (Class<? extends Annotation> annotationType : REQUIRED_BITS.keySet()) {
+            Pointcut annotationPointcut = new AnnotationMatchingPointcut(null, annotationType, true);
+            pointcut = pointcut == null ? new ComposablePointcut(annotationPointcut) : pointcut.union(annotationPointcut);
+        }
+        return pointcut;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        MenuPermissionAttribute attribute = getAttribute(invocation.getMethod());
+        if (attribute == NO_ATTRIBUTE) {
+            return null;
+        }
+
+        Authentication currentAuthentication = authentication.get();
+        if (currentAuthentication == null || !currentAuthentication.isAuthenticated()
+                || currentAuthentication instanceof AnonymousAuthenticationToken) {
+            return new AuthorizationDecision(false);
+        }
+
+        int grantedBits = menuPermissionService.getObject()
+                .getPermissionBits(currentAuthentication, attribute.menuCode());
+        return new AuthorizationDecision(PermissionBits.covers(grantedBits, attribute.requiredBits()));
+    }
+
+    /**
+     * 애플리케이션 시작 시 모든 핸들러 메서드의 권한 정보를 미리 해석
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+                .forEach(mapping -> mapping.getHandlerMethods().values()
+                        .forEach(handlerMethod -> getAttribute(handlerMethod.getMethod())));
+
+        long annotatedCount = attributes.values().stream().filter(attribute -> attribute != NO_ATTRIBUTE).count();
+        log.info("메뉴 권한 어노테이션 해석 완료: {}개 메서드", annotatedCount);
+    }
+
+    private MenuPermissionAttribute getAttribute(Method method) {
+        return attributes.computeIfAbsent(method, this::resolveAttribute);
+    }
+
+    private MenuPermissionAttribute resolveAttribute(Method method) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, method.getDeclaringClass());
+        MergedAnnotations annotations = MergedAnnotations.from(specificMethod, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY);
+
+        for (Map.Entry<Class<? extends Annotation>, Integer> entry : REQUIRED_BITS.entrySet()) {
+            MergedAnnotation<? extends Annotation> annotation = annotations.get(entry.getKey());
+            if (annotation.isPresent()) {
+                return new MenuPermissionAttribute(annotation.getString("value"), entry.getValue());
+            }
+        }
+        return NO_ATTRIBUTE;
+    }
+
+    /**
+     * 메서드별로 해석된 권한 요구 사항
+     */
+    private record MenuPermissionAttribute(String menuCode, int requiredBits) {
+    }
+}
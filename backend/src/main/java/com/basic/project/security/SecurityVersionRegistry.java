@@ -0,0 +1,118 @@
+package com.basic.project.security;
+
+import com.basic.project.mapper.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 사용자별 보안 버전 관리
+ * 비밀번호 변경, 비활성화, 역할 변경 시 버전을 올려 이전에 발급된 토큰을 무효화
+ * 버전은 사용자당 최초 1회만 DB에서 읽고 이후에는 메모리에서 제공
+ * 버전이 바뀌면 해당 사용자의 검증 토큰 캐시 항목도 함께 제거
+ * 무상태 인증(app.security.jwt.stateless)이 꺼져 있으면 users.security_version 컬럼을 사용하지 않고 토큰 캐시만 제거
+ * (기존 데이터베이스는 database/users_security_version.sql 적용 후 활성화)
+ */
+@Slf4j
+@Component
+public class SecurityVersionRegistry {
+
+    // 삭제된 사용자 표시용 (어떤 토큰 버전보다도 큼)
+    private static final long REVOKED = Long.MAX_VALUE;
+
+    private final UserMapper userMapper;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final boolean enabled;
+
+    private final ConcurrentMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public SecurityVersionRegistry(
+            UserMapper userMapper,
+            TokenAuthenticationCache tokenAuthenticationCache,
+            @Value("${app.security.jwt.stateless:false}") boolean enabled) {
+        this.userMapper = userMapper;
+        this.tokenAuthenticationCache = tokenAuthenticationCache;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 사용자의 현재 보안 버전 조회
+     */
+    public long getVersion(Long userId) {
+        return versions.computeIfAbsent(userId, this::loadVersion);
+    }
+
+    /**
+     * 토큰에 기록된 버전이 현재 버전과 일치하는지 확인
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return userId != null && getVersion(userId) == tokenVersion;
+    }
+
+    /**
+     * 보안 버전 증가 - 해당 사용자의 기존 토큰을 모두 무효화
+     */
+    public void increment(Long userId) {
+        if (enabled) {
+            userMapper.incrementSecurityVersion(userId);
+        }
+        evictAfterCommit(List.of(userId));
+        log.debug("보안 버전 증가: userId={}", userId);
+    }
+
+    /**
+     * 역할에 속한 모든 사용자의 보안 버전 증가
+     */
+    public void incrementByRole(Long roleId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (enabled) {
+            userMapper.incrementSecurityVersionByRoleId(roleId);
+        }
+        evictAfterCommit(userIds);
+        log.debug("역할 사용자 보안 버전 증가: roleId={}, users={}", roleId, userIds.size());
+    }
+
+    /**
+     * 삭제된 사용자의 토큰을 즉시 거부
+     */
+    public void revoke(Long userId) {
+        versions.put(userId, REVOKED);
+        tokenAuthenticationCache.invalidateUser(userId);
+    }
+
+    private long loadVersion(Long userId) {
+        Long version = userMapper.findSecurityVersion(userId);
+        return version != null ? version : REVOKED;
+    }
+
+    /**
+     * 커밋 이전에 다른 요청이 이전 버전을 다시 캐싱하지 않도록 커밋 후에도 한 번 더 제거
+     */
+    private void evictAfterCommit(Collection<Long> userIds) {
+        evict(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userIds);
+                }
+            });
+        }
+    }
+
+    private void evict(Collection<Long> userIds) {
+        userIds.forEach(userId -> {
+            versions.remove(userId);
+            tokenAuthenticationCache.invalidateUser(userId);
+        });
+    }
+}
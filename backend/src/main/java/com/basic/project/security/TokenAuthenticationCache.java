@@ -0,0 +1,148 @@
+package com.basic.project.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증이 끝난 액세스 토큰의 인증 정보 캐시
+ * 같은 토큰이 반복 사용될 때 서명 검증과 사용자 조회를 생략하기 위해 사용
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 각 항목은 토큰의 만료 시각(exp)에 함께 만료됨
+ * 크기 초과 시 Caffeine의 W-TinyLFU 정책으로 사용 빈도가 낮은 항목부터 제거
+ * 사용자 무효화마다 세대(generation)를 올리고, 조회를 시작한 뒤 세대가 바뀐 인증 정보는 저장하지 않음
+ * (무효화 이전에 읽은 권한이 다시 캐싱되어 토큰 만료까지 남는 것을 방지)
+ */
+@Slf4j
+@Component
+public class TokenAuthenticationCache {
+
+    private static final String CACHE_NAME = "jwtTokenCache";
+
+    private final boolean enabled;
+    private final Cache<String, CachedAuthentication> cache;
+    // 사용자 무효화 횟수 - 인증 정보 조회 시작 시점과 비교
+    private final AtomicLong generation = new AtomicLong();
+
+    public TokenAuthenticationCache(
+            @Value("${app.security.jwt.token-cache.enabled:false}") boolean enabled,
+            @Value("${app.security.jwt.token-cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    /**
+     * 캐시된 인증 정보 조회 (없거나 만료된 경우 null)
+     */
+    public UserDetails get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        CachedAuthentication cached = cache.getIfPresent(digest(token));
+        return cached != null ? cached.userDetails() : null;
+    }
+
+    /**
+     * 현재 무효화 세대 - 토큰 검증/사용자 조회 전에 읽어 put에 전달
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 검증된 토큰의 인증 정보 저장
+     * @param loadGeneration 인증 정보 조회를 시작할 때의 currentGeneration() (이후 무효화가 있었으면 저장하지 않음)
+     */
+    public void put(String token, UserDetails userDetails, Date expiration, long loadGeneration) {
+        if (!enabled || expiration == null || !(userDetails instanceof UserPrincipal)) {
+            return;
+        }
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        String key = digest(token);
+        cache.put(key, new CachedAuthentication(userDetails, expiration.getTime()));
+        // 확인과 저장 사이에 무효화가 끼어든 경우 방금 저장한 항목 제거
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 특정 사용자에게 발급된 토큰의 캐시 항목 모두 제거
+     * 비밀번호, 활성 상태, 역할 변경 시 호출
+     */
+    public void invalidateUser(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        // 세대를 먼저 올려야 제거 이후에 끝나는 저장도 거부됨
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(cached -> userId.equals(cached.userId()));
+        log.debug("토큰 캐시 무효화: userId={}", userId);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record CachedAuthentication(UserDetails userDetails, long expiresAtMillis) {
+
+        Long userId() {
+            return ((UserPrincipal) userDetails).getId();
+        }
+    }
+
+    /**
+     * 항목별 만료 시간을 토큰의 exp 기준으로 계산
+     */
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
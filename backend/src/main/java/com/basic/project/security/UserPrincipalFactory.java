@@ -64,6 +64,22 @@ public class UserPrincipalFactory {
                 .build();
     }
     
+    /**
+     * JWT 클레임(사용자 ID, 역할명)만으로 UserPrincipal 객체를 생성하는 편의 메서드
+     * DB 조회 없이 인증 정보를 복원할 때 사용하며 비밀번호 등 민감 정보는 포함하지 않음
+     */
+    public static UserPrincipal fromClaims(Long id, String username, List<String> roleNames) {
+        List<GrantedAuthority> authorities = roleNames.stream()
+                .map(roleName -> new SimpleGrantedAuthority("ROLE_" + roleName))
+                .collect(Collectors.toList());
+        
+        return UserPrincipalFactory.create()
+                .id(id)
+                .username(username)
+                .authorities(authorities)
+                .build();
+    }
+    
     /**
      * 설정된 값들로 UserPrincipal 객체를 생성
      */
@@ -0,0 +1,312 @@
+package com.basic.project.service;
+
+import com.basic.project.domain.SystemLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 비동기 일괄 기록
+ * 요청 스레드는 크기가 제한된 큐에 넣기만 하고, 전용 스레드가 최대 max-batch-size건 또는 flush-interval-ms마다 모아
+ * 감사 로그 실행기(auditExecutor)에서 로그 저장소(SystemLogStore)에 한 번에 저장 (group commit, 동시 저장은 max-concurrent-flushes개까지)
+ * 큐가 가득 차면 overflow-policy에 따라 처리
+ * - BLOCK: block-timeout-ms까지 대기 후에도 자리가 없으면 버림
+ * - DROP_OLDEST: 가장 오래된 항목을 버리고 추가
+ * - DROP: 새 항목을 버림
+ * 종료 시 웹 서버가 멈춘 뒤 큐에 남은 항목을 모두 저장 (최대 shutdown-timeout-ms)
+ * 저장된 로그는 실시간 로그 스트림(LogStreamService) 구독자에게 전달
+ */
+@Slf4j
+@Service
+public class AuditLogWriter implements SmartLifecycle {
+
+    // 웹 서버(요청 처리)가 멈춘 뒤에 종료되도록 웹 서버보다 낮은 단계 사용
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    public enum OverflowPolicy {
+        BLOCK, DROP_OLDEST, DROP
+    }
+
+    private final SystemLogStore systemLogStore;
+    private final DashboardCounterService dashboardCounterService;
+    private final LogStreamService logStreamService;
+    private final TaskExecutor auditExecutor;
+    private final BlockingQueue<SystemLog> queue;
+    // 동시에 진행 중인 저장 수 제한 (실행기 큐가 넘치지 않도록 하고, 종료 시 진행 중인 저장 완료 대기에 사용)
+    private final Semaphore flushPermits;
+    private final int maxConcurrentFlushes;
+    private final int maxBatchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final long shutdownTimeoutMs;
+
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+    private final Counter droppedQueueFull;
+    private final Counter droppedOldest;
+    private final Counter writeFailures;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(
+            SystemLogStore systemLogStore,
+            DashboardCounterService dashboardCounterService,
+            LogStreamService logStreamService,
+            @Qualifier("auditExecutor") TaskExecutor auditExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.max-batch-size:500}") int maxBatchSize,
+            @Value("${app.audit.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${app.audit.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${app.audit.block-timeout-ms:100}") long blockTimeoutMs,
+            @Value("${app.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+            @Value("${app.audit.max-concurrent-flushes:2}") int maxConcurrentFlushes) {
+        this.systemLogStore = systemLogStore;
+        this.dashboardCounterService = dashboardCounterService;
+        this.logStreamService = logStreamService;
+        this.auditExecutor = auditExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxConcurrentFlushes = maxConcurrentFlushes;
+        this.flushPermits = new Semaphore(maxConcurrentFlushes);
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 감사 로그 수")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("audit.batch.size")
+                .description("한 번에 저장한 감사 로그 수")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("audit.flush.latency")
+                .description("감사 로그 일괄 저장 시간")
+                .register(meterRegistry);
+        this.droppedQueueFull = Counter.builder("audit.dropped")
+                .description("큐가 가득 차 버린 감사 로그 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.droppedOldest = Counter.builder("audit.dropped")
+                .description("큐가 가득 차 버린 감사 로그 수")
+                .tag("reason", "oldest_evicted")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("audit.write.failures")
+                .description("저장에 실패한 감사 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 감사 로그를 저장 큐에 추가 (기록 스레드가 멈춘 뒤에는 바로 저장)
+     * @return 큐에 추가(또는 저장)되었으면 true, 버려졌으면 false
+     */
+    public boolean enqueue(SystemLog systemLog) {
+        if (!running) {
+            flush(List.of(systemLog));
+            return true;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(systemLog, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(systemLog)) {
+                    if (queue.poll() != null) {
+                        droppedOldest.increment();
+                    }
+                }
+                return true;
+            }
+            case DROP -> {
+                if (queue.offer(systemLog)) {
+                    return true;
+                }
+            }
+        }
+        droppedQueueFull.increment();
+        return false;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("감사 로그 기록 시작 (큐 {}건, 일괄 {}건/{}ms, 초과 시 {})",
+                queue.remainingCapacity(), maxBatchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        boolean flushesCompleted = false;
+        try {
+            writerThread.join(shutdownTimeoutMs);
+            // 실행기에서 진행 중인 저장까지 완료되기를 대기
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            flushesCompleted = flushPermits.tryAcquire(maxConcurrentFlushes, remaining, TimeUnit.MILLISECONDS);
+            if (flushesCompleted) {
+                flushPermits.release(maxConcurrentFlushes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive() || !queue.isEmpty() || !flushesCompleted) {
+            log.warn("감사 로그 기록 종료 제한 시간 초과 - 저장하지 못한 로그 {}건", queue.size());
+        } else {
+            log.info("감사 로그 기록 종료 - 대기 중인 로그 모두 저장");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runWriter() {
+        List<SystemLog> batch = new ArrayList<>(maxBatchSize);
+        // 종료 요청 후에도 큐가 빌 때까지 계속 저장
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                // 모은 로그는 저장하고 종료 조건(running, 큐)에 따라 계속 진행
+                log.debug("감사 로그 기록 스레드 인터럽트");
+            }
+            if (!batch.isEmpty()) {
+                submitFlush(new ArrayList<>(batch));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 실행기에 저장 작업 제출 - 동시 저장 수가 한도에 이르면 기록 스레드가 대기 (큐가 차면 overflow-policy 적용)
+     */
+    private void submitFlush(List<SystemLog> batch) {
+        flushPermits.acquireUninterruptibly();
+        try {
+            auditExecutor.execute(() -> {
+                try {
+                    flush(batch);
+                } finally {
+                    flushPermits.release();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 실행기가 종료되었거나 포화된 경우 기록 스레드에서 직접 저장
+            try {
+                flush(batch);
+            } finally {
+                flushPermits.release();
+            }
+        }
+    }
+
+    /**
+     * 첫 항목을 받은 뒤 최대 flushIntervalMs 동안 maxBatchSize건까지 모음
+     */
+    private void collectBatch(List<SystemLog> batch) throws InterruptedException {
+        SystemLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                return;
+            }
+            SystemLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<SystemLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        // 저장(자동 커밋)과 대시보드 카운터 증가 사이에 재동기화가 끼어들지 않도록 함께 감쌈
+        List<SystemLog> saved = dashboardCounterService.trackLogWrite(() -> save(batch));
+        flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizes.record(batch.size());
+        logStreamService.publish(saved);
+    }
+
+    private List<SystemLog> save(List<SystemLog> batch) {
+        List<SystemLog> saved;
+        try {
+            systemLogStore.append(batch);
+            saved = batch;
+        } catch (Exception e) {
+            // 일부 행 때문에 전체가 실패한 경우 한 건씩 다시 저장
+            log.warn("감사 로그 일괄 저장 실패 - 개별 저장으로 재시도 ({}건)", batch.size(), e);
+            saved = insertIndividually(batch);
+        }
+        dashboardCounterService.logsInserted(saved.size());
+        return saved;
+    }
+
+    private List<SystemLog> insertIndividually(List<SystemLog> batch) {
+        List<SystemLog> saved = new ArrayList<>(batch.size());
+        for (SystemLog systemLog : batch) {
+            try {
+                systemLogStore.append(List.of(systemLog));
+                saved.add(systemLog);
+            } catch (Exception e) {
+                writeFailures.increment();
+                log.error("감사 로그 저장 실패: {} {} {}", systemLog.getLevel(), systemLog.getUsername(), systemLog.getAction(), e);
+            }
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,242 @@
+package com.basic.project.service;
+
+import com.basic.project.config.InstrumentedCaffeineCacheManager;
+import com.basic.project.domain.Menu;
+import com.basic.project.mapper.RoleMapper;
+import com.basic.project.mapper.RoleMenuMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 의존성 기반 캐시 무효화
+ * 역할/메뉴/권한 변경 시 캐시 전체를 비우지 않고 영향받는 항목만 제거
+ * - 사용자 메뉴 트리: 트리에 포함된 메뉴 ID를 적재 시점에 기록하고, 메뉴 변경 시 해당 메뉴를 포함한 트리만 제거
+ * - 역할/권한 변경: 역할에 속한 사용자(RoleMapper.findUserIdsByRoleId)의 메뉴 트리만 제거
+ * 제거는 즉시 한 번, 커밋 후 한 번 더 수행하며 실제로 제거된 항목 수를 캐시/원인별로 집계
+ * 크기/만료로 제거된 항목의 의존성 기록은 캐시 매니저의 제거 알림으로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationService {
+
+    private static final String ROLES_CACHE = "roles";
+    private static final String MENUS_CACHE = "menus";
+    private static final String MENU_TREE_CACHE = "menuTree";
+    private static final String USER_MENUS_CACHE = "user-menus";
+    private static final String PERMISSIONS_CACHE = "permissions";
+    private static final String STATISTICS_CACHE = "statistics";
+
+    private final CacheManager cacheManager;
+    private final RoleMapper roleMapper;
+    private final RoleMenuMapper roleMenuMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 메뉴 ID → 해당 메뉴를 포함한 캐시 항목
+    private final ConcurrentMap<Long, Set<CacheEntry>> entriesByMenu = new ConcurrentHashMap<>();
+    // 캐시 항목 → 기록한 값과 포함된 메뉴 ID (재적재/제거 시 이전 의존성 정리용)
+    private final ConcurrentMap<CacheEntry, TrackedTree> menusByEntry = new ConcurrentHashMap<>();
+    // 의존성 기록/정리를 직렬화 (같은 항목의 재기록과 제거 알림이 서로의 메뉴 ID를 지우지 않도록)
+    private final Object trackingLock = new Object();
+
+    private final ConcurrentMap<String, Counter> invalidationCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시에서 제거된 항목(크기/만료 제거 포함)의 의존성 기록 정리
+     */
+    @PostConstruct
+    public void registerRemovalListener() {
+        if (cacheManager instanceof InstrumentedCaffeineCacheManager instrumentedCacheManager) {
+            instrumentedCacheManager.addRemovalListener(this::onCacheEntryRemoved);
+        } else {
+            log.warn("캐시 제거 알림을 지원하지 않는 캐시 매니저 - 만료된 메뉴 트리 의존성 기록이 남을 수 있음: {}",
+                    cacheManager.getClass().getName());
+        }
+    }
+
+    /**
+     * 메뉴 트리 캐시 항목이 포함하는 메뉴 ID 기록 (menuTree는 캐시에 저장되는 값과 같은 인스턴스)
+     */
+    public void trackMenuTree(String cacheName, Object key, List<Menu> menuTree) {
+        CacheEntry entry = new CacheEntry(cacheName, key);
+        Set<Long> menuIds = new HashSet<>();
+        collectMenuIds(menuTree, menuIds);
+
+        synchronized (trackingLock) {
+            untrack(entry);
+            menusByEntry.put(entry, new TrackedTree(menuTree, menuIds));
+            menuIds.forEach(menuId -> entriesByMenu.computeIfAbsent(menuId, id -> ConcurrentHashMap.newKeySet()).add(entry));
+        }
+    }
+
+    /**
+     * 사용자 역할 할당/해제 시 해당 사용자의 메뉴 트리만 무효화
+     */
+    public void invalidateUserMenus(Long userId) {
+        evictNowAndAfterCommit("user", userMenuEntries(List.of(userId)));
+    }
+
+    /**
+     * 역할 변경 시 무효화 - 역할 목록/역할 항목, 역할 권한, 역할 사용자들의 메뉴 트리
+     */
+    public void invalidateRole(Long roleId) {
+        List<CacheEntry> entries = new ArrayList<>(roleEntries(roleId));
+        entries.add(new CacheEntry(ROLES_CACHE, "all"));
+        entries.add(new CacheEntry(ROLES_CACHE, roleId));
+        entries.add(new CacheEntry(STATISTICS_CACHE, "dashboard"));
+        evictNowAndAfterCommit("role", entries);
+    }
+
+    /**
+     * 역할-메뉴 권한 변경 시 무효화 - 역할 권한과 역할 사용자들의 메뉴 트리
+     */
+    public void invalidateRolePermissions(Collection<Long> roleIds) {
+        Set<CacheEntry> entries = new LinkedHashSet<>();
+        roleIds.stream().distinct().forEach(roleId -> entries.addAll(roleEntries(roleId)));
+        evictNowAndAfterCommit("permission", entries);
+    }
+
+    /**
+     * 메뉴 변경 시 무효화 - 전체 메뉴 목록/트리, 해당 메뉴를 포함하거나 권한을 가진 사용자 트리
+     * 메뉴 생성처럼 특정 메뉴가 없으면 menuId에 null 전달
+     */
+    public void invalidateMenu(Long menuId) {
+        Set<CacheEntry> entries = new LinkedHashSet<>();
+        entries.add(new CacheEntry(MENUS_CACHE, "all"));
+        entries.add(new CacheEntry(MENUS_CACHE, "hierarchy"));
+        entries.add(new CacheEntry(MENU_TREE_CACHE, "tree"));
+        entries.add(new CacheEntry(STATISTICS_CACHE, "dashboard"));
+        if (menuId != null) {
+            // 현재 트리에 포함된 항목 + 권한은 있지만 숨김/비활성으로 빠져 있던 사용자의 트리
+            entries.addAll(entriesByMenu.getOrDefault(menuId, Set.of()));
+            roleMenuMapper.findRoleIdsByMenuId(menuId).stream()
+                    .distinct()
+                    .forEach(roleId -> entries.addAll(roleEntries(roleId)));
+        }
+        evictNowAndAfterCommit("menu", entries);
+    }
+
+    /**
+     * 캐시/원인별 무효화 건수
+     */
+    public Map<String, Map<String, Long>> getInvalidationCounts() {
+        Map<String, Map<String, Long>> counts = new TreeMap<>();
+        invalidationCounters.values().forEach(counter -> counts
+                .computeIfAbsent(counter.getId().getTag("cache"), name -> new TreeMap<>())
+                .put(counter.getId().getTag("cause"), (long) counter.count()));
+        return counts;
+    }
+
+    private List<CacheEntry> roleEntries(Long roleId) {
+        List<CacheEntry> entries = new ArrayList<>(userMenuEntries(roleMapper.findUserIdsByRoleId(roleId)));
+        entries.add(new CacheEntry(PERMISSIONS_CACHE, "role:" + roleId));
+        return entries;
+    }
+
+    private List<CacheEntry> userMenuEntries(Collection<Long> userIds) {
+        List<CacheEntry> entries = new ArrayList<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            entries.add(new CacheEntry(USER_MENUS_CACHE, userId));
+            entries.add(new CacheEntry(MENUS_CACHE, "user_" + userId));
+        }
+        return entries;
+    }
+
+    /**
+     * 커밋 이전에 다른 요청이 이전 데이터를 다시 캐싱하지 않도록 커밋 후에도 한 번 더 제거
+     */
+    private void evictNowAndAfterCommit(String cause, Collection<CacheEntry> entries) {
+        evict(cause, entries);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(cause, entries);
+                }
+            });
+        }
+    }
+
+    private void evict(String cause, Collection<CacheEntry> entries) {
+        int evicted = 0;
+        for (CacheEntry entry : entries) {
+            Cache cache = cacheManager.getCache(entry.cacheName());
+            if (cache != null && cache.evictIfPresent(entry.key())) {
+                invalidationCounter(entry.cacheName(), cause).increment();
+                evicted++;
+            }
+            untrack(entry);
+        }
+        log.debug("캐시 무효화 ({}): 대상 {}건, 제거 {}건", cause, entries.size(), evicted);
+    }
+
+    /**
+     * 제거 알림은 비동기이므로 그 사이 다시 적재되어 기록된 값이면 유지
+     */
+    private void onCacheEntryRemoved(String cacheName, Object key, Object value) {
+        CacheEntry entry = new CacheEntry(cacheName, key);
+        synchronized (trackingLock) {
+            TrackedTree tracked = menusByEntry.get(entry);
+            if (tracked != null && tracked.value() == value) {
+                untrack(entry);
+            }
+        }
+    }
+
+    private void untrack(CacheEntry entry) {
+        synchronized (trackingLock) {
+            TrackedTree tracked = menusByEntry.remove(entry);
+            if (tracked != null) {
+                tracked.menuIds().forEach(menuId -> entriesByMenu.computeIfPresent(menuId, (id, entries) -> {
+                    entries.remove(entry);
+                    return entries.isEmpty() ? null : entries;
+                }));
+            }
+        }
+    }
+
+    private Counter invalidationCounter(String cacheName, String cause) {
+        return invalidationCounters.computeIfAbsent(cacheName + ":" + cause, key -> Counter.builder("cache.invalidations")
+                .description("의존성 기반 무효화로 제거된 캐시 항목 수")
+                .tag("cache", cacheName)
+                .tag("cause", cause)
+                .register(meterRegistry));
+    }
+
+    private void collectMenuIds(List<Menu> menus, Set<Long> menuIds) {
+        if (menus == null) {
+            return;
+        }
+        for (Menu menu : menus) {
+            if (menu.getId() != null) {
+                menuIds.add(menu.getId());
+            }
+            collectMenuIds(menu.getChildren(), menuIds);
+        }
+    }
+
+    private record CacheEntry(String cacheName, Object key) {
+    }
+
+    private record TrackedTree(Object value, Set<Long> menuIds) {
+    }
+}
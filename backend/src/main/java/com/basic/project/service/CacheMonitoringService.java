@@ -0,0 +1,81 @@
+package com.basic.project.service;
+
+import com.basic.project.config.InstrumentedCaffeineCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 캐시 모니터링 서비스
+ * 캐시별 적중률, 미스, 제거 건수, 예상 크기, 적재 시간, 단일 적재 합류 수, 무효화 건수 조회 및 개별 캐시 비우기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheMonitoringService {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    /**
+     * 전체 캐시 통계 조회 (캐시 이름순)
+     */
+    public Map<String, Object> getCacheStatistics() {
+        Map<String, Map<String, Long>> invalidationCounts = cacheInvalidationService.getInvalidationCounts();
+        Map<String, Object> caches = new TreeMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                Map<String, Object> statistics = toStatistics(caffeineCache);
+                if (caffeineCache instanceof InstrumentedCaffeineCache instrumentedCache) {
+                    statistics.put("coalescedCount", instrumentedCache.getCoalescedCount());
+                }
+                statistics.put("invalidations", invalidationCounts.getOrDefault(cacheName, Map.of()));
+                caches.put(cacheName, statistics);
+            }
+        }
+        return caches;
+    }
+
+    /**
+     * 이름으로 지정한 캐시의 모든 항목 제거
+     * @return 캐시가 존재하면 true
+     */
+    public boolean clearCache(String cacheName) {
+        if (!cacheManager.getCacheNames().contains(cacheName)) {
+            return false;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return false;
+        }
+        cache.clear();
+        log.info("캐시 비우기 실행: {}", cacheName);
+        return true;
+    }
+
+    private Map<String, Object> toStatistics(CaffeineCache cache) {
+        CacheStats stats = cache.getNativeCache().stats();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("hitCount", stats.hitCount());
+        statistics.put("missCount", stats.missCount());
+        statistics.put("hitRate", Math.round(stats.hitRate() * 10000) / 100.0);
+        statistics.put("evictionCount", stats.evictionCount());
+        statistics.put("evictionWeight", stats.evictionWeight());
+        statistics.put("estimatedSize", cache.getNativeCache().estimatedSize());
+        statistics.put("loadCount", stats.loadCount());
+        statistics.put("loadFailureCount", stats.loadFailureCount());
+        statistics.put("averageLoadTimeMs", Math.round(stats.averageLoadPenalty() / 1_000) / 1_000.0);
+        statistics.put("totalLoadTimeMs", stats.totalLoadTime() / 1_000_000);
+        return statistics;
+    }
+}
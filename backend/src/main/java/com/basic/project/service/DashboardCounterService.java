@@ -0,0 +1,474 @@
+package com.basic.project.service;
+
+import com.basic.project.dto.DashboardStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 대시보드 카운터 (메모리 유지)
+ * 사용자/역할/메뉴/권한/로그 쓰기 경로에서 커밋 후 증감하여 대시보드는 COUNT 쿼리 없이 O(1)로 조회
+ * 주기적인 재동기화(reconcile)로 DB 집계와 비교해 차이(drift)를 보정하고 메트릭/로그로 보고
+ * 섹션별로 DB 집계로 처음 채워진 뒤부터 카운터를 사용 (변경이 잦은 섹션 때문에 다른 섹션의 카운터 사용이 미뤄지지 않음)
+ * 트랜잭션 밖에서 로그를 저장/삭제하는 경로는 trackLogWrite로 DB 쓰기와 카운터 증감을 함께 감싸야 함
+ */
+@Slf4j
+@Service
+public class DashboardCounterService {
+
+    private static final String USERS = "users";
+    private static final String ROLES = "roles";
+    private static final String MENUS = "menus";
+    private static final String PERMISSIONS = "permissions";
+    private static final String LOGS = "logs";
+
+    private final AtomicLong totalUsers = new AtomicLong();
+    private final AtomicLong activeUsers = new AtomicLong();
+    private final AtomicLong totalRoles = new AtomicLong();
+    private final AtomicLong activeRoles = new AtomicLong();
+    private final AtomicLong totalMenus = new AtomicLong();
+    private final AtomicLong visibleMenus = new AtomicLong();
+    private final AtomicLong totalPermissions = new AtomicLong();
+    private final AtomicLong totalLogs = new AtomicLong();
+    private final AtomicLong todayLogs = new AtomicLong();
+
+    // todayLogs가 집계하는 날짜 (날짜가 바뀌면 0부터 다시 집계)
+    private volatile LocalDate todayLogsDate = LocalDate.now();
+
+    // 카운터 이름 → 마지막 재동기화에서 발견한 차이 (DB 값 - 카운터 값)
+    private final Map<String, AtomicLong> lastDrift = new LinkedHashMap<>();
+    // 섹션 이름(DashboardStatsResponse.unavailableSections와 동일) → 소속 카운터와 변경 추적 상태
+    private final Map<String, Section> sections = new LinkedHashMap<>();
+    private final Counter reconciliations;
+    private final Counter driftDetections;
+
+    public DashboardCounterService(MeterRegistry meterRegistry) {
+        sections.put(USERS, new Section(
+                new TrackedCounter("totalUsers", totalUsers, DashboardStatsResponse::getTotalUsers,
+                        DashboardStatsResponse::setTotalUsers, false),
+                new TrackedCounter("activeUsers", activeUsers, DashboardStatsResponse::getActiveUsers,
+                        DashboardStatsResponse::setActiveUsers, false)));
+        sections.put(ROLES, new Section(
+                new TrackedCounter("totalRoles", totalRoles, DashboardStatsResponse::getTotalRoles,
+                        DashboardStatsResponse::setTotalRoles, false),
+                new TrackedCounter("activeRoles", activeRoles, DashboardStatsResponse::getActiveRoles,
+                        DashboardStatsResponse::setActiveRoles, false)));
+        sections.put(MENUS, new Section(
+                new TrackedCounter("totalMenus", totalMenus, DashboardStatsResponse::getTotalMenus,
+                        DashboardStatsResponse::setTotalMenus, false),
+                new TrackedCounter("visibleMenus", visibleMenus, DashboardStatsResponse::getVisibleMenus,
+                        DashboardStatsResponse::setVisibleMenus, false)));
+        sections.put(PERMISSIONS, new Section(
+                new TrackedCounter("totalPermissions", totalPermissions, DashboardStatsResponse::getTotalPermissions,
+                        DashboardStatsResponse::setTotalPermissions, false)));
+        sections.put(LOGS, new Section(
+                new TrackedCounter("totalLogs", totalLogs, DashboardStatsResponse::getTotalLogs,
+                        DashboardStatsResponse::setTotalLogs, false),
+                new TrackedCounter("todayLogs", todayLogs, DashboardStatsResponse::getTodayLogs,
+                        DashboardStatsResponse::setTodayLogs, true)));
+
+        sections.values().stream().flatMap(section -> section.counters.stream()).forEach(counter -> {
+            AtomicLong drift = new AtomicLong();
+            lastDrift.put(counter.name(), drift);
+            Gauge.builder("dashboard.counters.drift", drift, AtomicLong::get)
+                    .description("마지막 재동기화에서 발견한 DB 집계와 카운터의 차이")
+                    .tag("counter", counter.name())
+                    .register(meterRegistry);
+        });
+        this.reconciliations = Counter.builder("dashboard.counters.reconciliations")
+                .description("대시보드 카운터 재동기화 횟수")
+                .register(meterRegistry);
+        this.driftDetections = Counter.builder("dashboard.counters.drift.detected")
+                .description("DB 집계와 차이가 발견된 재동기화 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모든 섹션이 DB 집계로 채워졌는지 여부 (이후 대시보드 조회는 DB 집계 없이 카운터만 사용)
+     */
+    public boolean isInitialized() {
+        return sections.values().stream().allMatch(section -> section.initialized);
+    }
+
+    /**
+     * 아직 DB 집계로 채워지지 않아 카운터를 사용할 수 없는 섹션
+     */
+    public List<String> getUninitializedSections() {
+        List<String> result = new ArrayList<>();
+        sections.forEach((name, section) -> {
+            if (!section.initialized) {
+                result.add(name);
+            }
+        });
+        return result;
+    }
+
+    // ===== 쓰기 경로 =====
+
+    public void userCreated(boolean active) {
+        afterCommit(() -> {
+            totalUsers.incrementAndGet();
+            if (active) {
+                activeUsers.incrementAndGet();
+            }
+        }, USERS);
+    }
+
+    public void userDeleted(boolean wasActive) {
+        afterCommit(() -> {
+            totalUsers.decrementAndGet();
+            if (wasActive) {
+                activeUsers.decrementAndGet();
+            }
+        }, USERS);
+    }
+
+    public void userActiveChanged(boolean wasActive, boolean active) {
+        if (wasActive != active) {
+            afterCommit(() -> activeUsers.addAndGet(active ? 1 : -1), USERS);
+        }
+    }
+
+    public void roleCreated(boolean active) {
+        afterCommit(() -> {
+            totalRoles.incrementAndGet();
+            if (active) {
+                activeRoles.incrementAndGet();
+            }
+        }, ROLES);
+    }
+
+    /**
+     * @param cascadedPermissions 역할 삭제와 함께 삭제되는 권한(role_menus) 수
+     */
+    public void roleDeleted(boolean wasActive, int cascadedPermissions) {
+        afterCommit(() -> {
+            totalRoles.decrementAndGet();
+            if (wasActive) {
+                activeRoles.decrementAndGet();
+            }
+            totalPermissions.addAndGet(-cascadedPermissions);
+        }, ROLES, PERMISSIONS);
+    }
+
+    public void roleActiveChanged(boolean wasActive, boolean active) {
+        if (wasActive != active) {
+            afterCommit(() -> activeRoles.addAndGet(active ? 1 : -1), ROLES);
+        }
+    }
+
+    public void menuCreated(boolean visible) {
+        afterCommit(() -> {
+            totalMenus.incrementAndGet();
+            if (visible) {
+                visibleMenus.incrementAndGet();
+            }
+        }, MENUS);
+    }
+
+    /**
+     * @param cascadedPermissions 메뉴 삭제와 함께 삭제되는 권한(role_menus) 수
+     */
+    public void menuDeleted(boolean wasVisible, int cascadedPermissions) {
+        afterCommit(() -> {
+            totalMenus.decrementAndGet();
+            if (wasVisible) {
+                visibleMenus.decrementAndGet();
+            }
+            totalPermissions.addAndGet(-cascadedPermissions);
+        }, MENUS, PERMISSIONS);
+    }
+
+    public void menuVisibilityChanged(boolean wasVisible, boolean visible) {
+        if (wasVisible != visible) {
+            afterCommit(() -> visibleMenus.addAndGet(visible ? 1 : -1), MENUS);
+        }
+    }
+
+    public void permissionsAdded(int count) {
+        if (count != 0) {
+            afterCommit(() -> totalPermissions.addAndGet(count), PERMISSIONS);
+        }
+    }
+
+    public void permissionsRemoved(int count) {
+        if (count != 0) {
+            afterCommit(() -> totalPermissions.addAndGet(-count), PERMISSIONS);
+        }
+    }
+
+    public void logsInserted(int count) {
+        if (count != 0) {
+            afterCommit(() -> {
+                totalLogs.addAndGet(count);
+                rollOverTodayLogs();
+                todayLogs.addAndGet(count);
+            }, LOGS);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 로그 삭제 - 오늘 로그는 삭제 대상이 아님
+     */
+    public void logsDeleted(int count) {
+        if (count != 0) {
+            afterCommit(() -> totalLogs.addAndGet(-count), LOGS);
+        }
+    }
+
+    // ===== 조회 / 재동기화 =====
+
+    /**
+     * 현재 카운터 값으로 대시보드 통계 생성
+     */
+    public DashboardStatsResponse toStatsResponse() {
+        rollOverTodayLogs();
+        return DashboardStatsResponse.builder()
+                .totalUsers((int) totalUsers.get())
+                .activeUsers((int) activeUsers.get())
+                .inactiveUsers((int) (totalUsers.get() - activeUsers.get()))
+                .totalRoles((int) totalRoles.get())
+                .activeRoles((int) activeRoles.get())
+                .totalMenus((int) totalMenus.get())
+                .visibleMenus((int) visibleMenus.get())
+                .totalPermissions((int) totalPermissions.get())
+                .totalLogs((int) totalLogs.get())
+                .todayLogs((int) todayLogs.get())
+                .unavailableSections(new ArrayList<>())
+                .build();
+    }
+
+    /**
+     * DB 집계 결과에 채워진 섹션의 카운터 값을 덮어써 반환 (채워지지 않은 섹션은 DB 값 유지)
+     * @param actual 채워지지 않은 섹션을 조회한 DB 집계
+     */
+    public DashboardStatsResponse withCounters(DashboardStatsResponse actual) {
+        rollOverTodayLogs();
+        sections.values().stream().filter(section -> section.initialized).forEach(section ->
+                section.counters.forEach(counter -> counter.update().accept(actual, (int) counter.value().get())));
+        if (sections.get(USERS).initialized) {
+            actual.setInactiveUsers(actual.getTotalUsers() - actual.getActiveUsers());
+        }
+        return actual;
+    }
+
+    /**
+     * 모든 섹션을 DB 집계로 재동기화
+     * @see #reconcile(List, Function)
+     */
+    public DashboardStatsResponse reconcile(Function<List<String>, DashboardStatsResponse> query) {
+        return reconcile(new ArrayList<>(sections.keySet()), query);
+    }
+
+    /**
+     * DB 집계로 카운터 재동기화 (요청한 섹션만, 집계는 한 번)
+     * 커밋된 변경은 DB 집계와 카운터 양쪽에 들어가므로, 집계와 겹쳐 커밋된 변경은 집계에 포함됐는지 알 수 없음
+     * - 집계 시작부터 끝까지 진행 중(등록 후 미반영)인 변경도, 반영된 변경도 없었던 섹션만 DB 값으로 보정
+     * - 변경이 겹친 섹션은 다시 집계하지 않고 다음 재동기화로 미룸 (처음 채우는 중이면 그동안 해당 섹션만 DB 집계 사용)
+     * - 보정은 집계 후 읽은 카운터 값과의 차이만큼 더하므로 보정 직후에 반영된 변경분은 유지됨
+     * 조회하지 못한 섹션(unavailableSections)은 건너뜀
+     * @param targets 재동기화할 섹션 이름
+     * @param query 주어진 섹션을 조회하는 DB 집계 (DashboardService)
+     * @return DB 집계 결과
+     */
+    public synchronized DashboardStatsResponse reconcile(List<String> targets,
+                                                        Function<List<String>, DashboardStatsResponse> query) {
+        rollOverTodayLogs();
+        LocalDate date = todayLogsDate;
+        Map<String, Long> startSequences = new LinkedHashMap<>();
+        for (String name : targets) {
+            startSequences.put(name, sections.get(name).quietSequence());
+        }
+
+        DashboardStatsResponse actual = query.apply(targets);
+        List<String> failed = actual.getUnavailableSections() != null ? actual.getUnavailableSections() : List.of();
+        boolean sameDay = date.equals(LocalDate.now());
+
+        List<String> deferred = new ArrayList<>();
+        List<String> initializedNow = new ArrayList<>();
+        List<String> drifted = new ArrayList<>();
+        boolean reconciled = false;
+        for (String name : targets) {
+            Section section = sections.get(name);
+            boolean wasInitialized = section.initialized;
+            if (failed.contains(name)) {
+                continue;
+            }
+            if (!adjust(section, startSequences.get(name), actual, sameDay, drifted)) {
+                deferred.add(name);
+            } else if (wasInitialized) {
+                reconciled = true;
+            } else {
+                section.initialized = true;
+                initializedNow.add(name);
+            }
+        }
+
+        if (!initializedNow.isEmpty()) {
+            log.info("대시보드 카운터 초기화: {} (미초기화: {})", initializedNow, getUninitializedSections());
+        }
+        if (reconciled) {
+            reconciliations.increment();
+        }
+        if (!drifted.isEmpty()) {
+            driftDetections.increment();
+            log.warn("대시보드 카운터 차이 보정: {}", drifted);
+        }
+        if (!deferred.isEmpty() || !failed.isEmpty()) {
+            log.debug("대시보드 카운터 재동기화 보류 (집계 중 변경된 섹션: {}, 조회 실패 섹션: {})", deferred, failed);
+        }
+        return actual;
+    }
+
+    /**
+     * 마지막 재동기화에서 발견한 카운터별 차이
+     */
+    public Map<String, Long> getLastDrift() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        lastDrift.forEach((name, drift) -> result.put(name, drift.get()));
+        return result;
+    }
+
+    /**
+     * 트랜잭션 없이(자동 커밋) 로그를 저장/삭제하는 경로에서 DB 쓰기와 logsInserted/logsDeleted 호출을 함께 감싸 실행
+     * 쓰기 전부터 카운터 반영까지 진행 중으로 표시하여, 그 사이의 재동기화가 이미 DB에 보이는 변경을 다시 더하지 않도록 함
+     */
+    public <T> T trackLogWrite(Supplier<T> write) {
+        Section section = sections.get(LOGS);
+        section.inFlight.incrementAndGet();
+        try {
+            return write.get();
+        } finally {
+            section.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 집계 후 읽은 카운터 값이 집계 시작 시점과 같음이 확인된 경우에만 DB 값과의 차이만큼 보정
+     * @param startSequence 집계 시작 시 반영 순번 (진행 중인 변경이 있었으면 -1)
+     * @return 보정했으면 true, 집계 중 변경이 겹쳤으면 false
+     */
+    private boolean adjust(Section section, long startSequence, DashboardStatsResponse actual, boolean sameDay,
+                           List<String> drifted) {
+        // 값을 먼저 읽고 순번을 확인해야, 확인 이후의 변경은 DB 집계에도 읽은 값에도 포함되지 않음
+        long[] before = section.counters.stream().mapToLong(counter -> counter.value().get()).toArray();
+        if (startSequence < 0 || section.quietSequence() != startSequence) {
+            return false;
+        }
+        for (int i = 0; i < before.length; i++) {
+            TrackedCounter counter = section.counters.get(i);
+            // 집계 도중 날짜가 바뀌었으면 오늘 로그는 다음 재동기화에서 보정
+            if (counter.daily() && !sameDay) {
+                continue;
+            }
+            long drift = counter.actual().applyAsInt(actual) - before[i];
+            counter.value().addAndGet(drift);
+            // 처음 채우는 값은 차이로 보고하지 않음
+            if (section.initialized) {
+                lastDrift.get(counter.name()).set(drift);
+                if (drift != 0) {
+                    drifted.add(counter.name() + "=" + (drift > 0 ? "+" : "") + drift);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void rollOverTodayLogs() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(todayLogsDate)) {
+            synchronized (todayLogs) {
+                if (!today.equals(todayLogsDate)) {
+                    todayLogs.set(0);
+                    todayLogsDate = today;
+                }
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋 후, 없으면 즉시 반영 (롤백된 변경은 반영하지 않음)
+     * 등록부터 반영(또는 롤백)까지 해당 섹션을 진행 중으로 표시 - 커밋은 반영보다 먼저 DB 집계에 보일 수 있음
+     */
+    private void afterCommit(Runnable update, String... sectionNames) {
+        List<Section> touched = Arrays.stream(sectionNames).map(sections::get).toList();
+        touched.forEach(section -> section.inFlight.incrementAndGet());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update, touched);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    touched.forEach(section -> section.inFlight.decrementAndGet());
+                }
+            });
+        } else {
+            try {
+                apply(update, touched);
+            } finally {
+                touched.forEach(section -> section.inFlight.decrementAndGet());
+            }
+        }
+    }
+
+    private static void apply(Runnable update, List<Section> touched) {
+        update.run();
+        touched.forEach(section -> section.sequence.incrementAndGet());
+    }
+
+    /**
+     * 재동기화 대상 카운터
+     * @param actual DB 집계에서 같은 값을 꺼내는 함수
+     * @param update 대시보드 통계에 카운터 값을 채우는 함수
+     * @param daily 날짜가 바뀌면 0부터 다시 세는 카운터 (todayLogs)
+     */
+    private record TrackedCounter(String name, AtomicLong value, ToIntFunction<DashboardStatsResponse> actual,
+                                  ObjIntConsumer<DashboardStatsResponse> update, boolean daily) {
+    }
+
+    /**
+     * 섹션별 변경 추적
+     * - inFlight: 카운터 증감이 등록된 뒤 아직 반영되지 않은 변경 수 (커밋되어 DB에는 보일 수 있음)
+     * - sequence: 카운터에 반영된 변경 수
+     * - initialized: DB 집계로 채워져 카운터를 사용할 수 있는지 여부
+     */
+    private static final class Section {
+
+        private final List<TrackedCounter> counters;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile boolean initialized;
+
+        private Section(TrackedCounter... counters) {
+            this.counters = List.of(counters);
+        }
+
+        /**
+         * 진행 중인 변경이 없으면 반영 순번, 있으면 -1
+         */
+        private long quietSequence() {
+            // 진행 중 수를 먼저 확인 (변경은 반영 후 순번을 올리고 나서 진행 중 수를 줄이므로 사이에 놓치는 변경이 없음)
+            return inFlight.get() != 0 ? -1 : sequence.get();
+        }
+    }
+}
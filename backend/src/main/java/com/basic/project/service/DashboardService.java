@@ -1,94 +1,189 @@
 package com.basic.project.service;
 
 import com.basic.project.dto.DashboardStatsResponse;
-import com.basic.project.mapper.UserMapper;
-import com.basic.project.mapper.RoleMapper;
-import com.basic.project.mapper.MenuMapper;
-import com.basic.project.mapper.RoleMenuMapper;
-import com.basic.project.mapper.SystemLogMapper;
-import lombok.RequiredArgsConstructor;
+import com.basic.project.interceptor.StatementCancelInterceptor;
+import com.basic.project.mapper.StatisticsMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 통계 조회
+ * 사용자/역할/메뉴/권한 집계와 로그 집계를 병렬로 실행하고 쿼리별 제한 시간을 적용
+ * 일부 집계가 실패하거나 제한 시간을 넘기면 해당 섹션만 사용 불가로 표시한 부분 결과를 반환
+ * 제한 시간을 넘긴 집계는 실행 중인 문장을 취소해 작업 스레드와 DB 연결을 바로 돌려받음
+ * (취소가 문장 준비와 엇갈려도 문장 제한 시간을 query-timeout-ms를 올림한 초로 설정해 그 이상 실행되지 않음)
+ * 카운터(DashboardCounterService)가 초기화된 섹션은 DB 집계 없이 카운터 값을 반환하고, 초기화되지 않은 섹션만 DB에서 집계
+ * 모든 섹션이 초기화된 후 DB 집계는 주기적 재동기화에만 사용
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DashboardService {
 
-    private final UserMapper userMapper;
-    private final RoleMapper roleMapper;
-    private final MenuMapper menuMapper;
-    private final RoleMenuMapper roleMenuMapper;
-    private final SystemLogMapper systemLogMapper;
+    private static final List<String> CORE_SECTIONS = List.of("users", "roles", "menus", "permissions");
+    private static final List<String> LOG_SECTIONS = List.of("logs");
 
-    public DashboardStatsResponse getDashboardStats() {
-        log.info("대시보드 통계 데이터 조회 시작");
+    private final StatisticsMapper statisticsMapper;
+    private final SystemLogStore systemLogStore;
+    private final DashboardCounterService dashboardCounterService;
+    private final TaskExecutor dashboardQueryExecutor;
+    private final StatementCancelInterceptor statementCancelInterceptor;
+    private final long queryTimeoutMs;
+    private final int statementTimeoutSeconds;
 
-        try {
-            var userStats = getUserStatistics();
-            var roleStats = getRoleStatistics();
-            var menuStats = getMenuStatistics();
-            var permissionStats = getPermissionStatistics();
-            var logStats = getLogStatistics();
+    public DashboardService(
+            StatisticsMapper statisticsMapper,
+            SystemLogStore systemLogStore,
+            DashboardCounterService dashboardCounterService,
+            @Qualifier("dashboardQueryExecutor") TaskExecutor dashboardQueryExecutor,
+            StatementCancelInterceptor statementCancelInterceptor,
+            @Value("${app.dashboard.query-timeout-ms:3000}") long queryTimeoutMs) {
+        this.statisticsMapper = statisticsMapper;
+        this.systemLogStore = systemLogStore;
+        this.dashboardCounterService = dashboardCounterService;
+        this.dashboardQueryExecutor = dashboardQueryExecutor;
+        this.statementCancelInterceptor = statementCancelInterceptor;
+        this.queryTimeoutMs = queryTimeoutMs;
+        this.statementTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMs + 999));
+    }
 
-            DashboardStatsResponse stats = buildStatsResponse(userStats, roleStats, menuStats, permissionStats, logStats);
+    public DashboardStatsResponse getDashboardStats() {
+        return getDashboardStats(null);
+    }
 
-            log.info("대시보드 통계 데이터 조회 완료: {}", stats);
-            return stats;
+    /**
+     * 대시보드 통계 조회 - 초기화된 섹션은 카운터 값, 나머지 섹션은 DB 집계로 카운터를 채우면서 조회
+     * @param fallback 사용 불가 섹션에 대신 채울 이전 통계 (없으면 0)
+     * @throws IllegalStateException 모든 섹션을 조회하지 못한 경우
+     */
+    public DashboardStatsResponse getDashboardStats(DashboardStatsResponse fallback) {
+        if (dashboardCounterService.isInitialized()) {
+            return dashboardCounterService.toStatsResponse();
+        }
+        List<String> uninitialized = dashboardCounterService.getUninitializedSections();
+        return dashboardCounterService.withCounters(dashboardCounterService.reconcile(uninitialized,
+                sections -> queryDashboardStats(fallback, sections)));
+    }
 
+    /**
+     * 주기적으로 DB 집계와 카운터를 비교해 차이 보정
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.dashboard.reconcile-interval-ms:300000}")
+    public void reconcileCounters() {
+        try {
+            dashboardCounterService.reconcile(sections -> queryDashboardStats(null, sections));
         } catch (Exception e) {
-            log.error("대시보드 통계 조회 중 오류 발생", e);
-            throw new IllegalStateException("대시보드 통계 조회에 실패했습니다", e);
+            log.warn("대시보드 카운터 재동기화 실패", e);
         }
     }
 
-    private UserStatistics getUserStatistics() {
-        int totalUsers = userMapper.count();
-        int activeUsers = userMapper.findByActive(true).size();
-        int inactiveUsers = totalUsers - activeUsers;
-        return new UserStatistics(totalUsers, activeUsers, inactiveUsers);
-    }
+    /**
+     * 요청한 섹션이 속한 집계만 실행 (요청하지 않은 섹션은 fallback 값 유지)
+     */
+    private DashboardStatsResponse queryDashboardStats(DashboardStatsResponse fallback, List<String> sections) {
+        log.debug("대시보드 통계 데이터 조회 시작: {}", sections);
 
-    private RoleStatistics getRoleStatistics() {
-        int totalRoles = roleMapper.count();
-        int activeRoles = roleMapper.findByActive(true).size();
-        return new RoleStatistics(totalRoles, activeRoles);
-    }
+        CompletableFuture<DashboardStatsResponse> coreCounts = CORE_SECTIONS.stream().anyMatch(sections::contains)
+                ? submit(statisticsMapper::getCoreCounts)
+                : null;
+        CompletableFuture<DashboardStatsResponse> logCounts = LOG_SECTIONS.stream().anyMatch(sections::contains)
+                ? submit(systemLogStore::getLogCounts)
+                : null;
 
-    private MenuStatistics getMenuStatistics() {
-        int totalMenus = menuMapper.count();
-        int visibleMenus = menuMapper.findVisibleMenus().size();
-        return new MenuStatistics(totalMenus, visibleMenus);
-    }
+        DashboardStatsResponse.DashboardStatsResponseBuilder builder = fallback != null
+                ? fallback.toBuilder()
+                : DashboardStatsResponse.builder();
+        List<String> unavailableSections = new ArrayList<>();
 
-    private int getPermissionStatistics() {
-        return roleMenuMapper.count();
-    }
+        DashboardStatsResponse core = coreCounts != null ? await(CORE_SECTIONS, coreCounts, unavailableSections) : null;
+        if (core != null) {
+            builder.totalUsers(core.getTotalUsers())
+                    .activeUsers(core.getActiveUsers())
+                    .inactiveUsers(core.getInactiveUsers())
+                    .totalRoles(core.getTotalRoles())
+                    .activeRoles(core.getActiveRoles())
+                    .totalMenus(core.getTotalMenus())
+                    .visibleMenus(core.getVisibleMenus())
+                    .totalPermissions(core.getTotalPermissions());
+        }
+
+        DashboardStatsResponse logs = logCounts != null ? await(LOG_SECTIONS, logCounts, unavailableSections) : null;
+        if (logs != null) {
+            builder.totalLogs(logs.getTotalLogs())
+                    .todayLogs(logs.getTodayLogs());
+        }
+
+        // 모든 집계를 요청했는데 모두 실패한 경우 (일부만 요청했으면 나머지는 카운터 값으로 채워짐)
+        if (coreCounts != null && logCounts != null && core == null && logs == null) {
+            throw new IllegalStateException("대시보드 통계 조회에 실패했습니다");
+        }
 
-    private LogStatistics getLogStatistics() {
-        int totalLogs = systemLogMapper.count();
-        int todayLogs = systemLogMapper.getTodayLogsCount();
-        return new LogStatistics(totalLogs, todayLogs);
+        DashboardStatsResponse stats = builder.unavailableSections(unavailableSections).build();
+        log.debug("대시보드 통계 데이터 조회 완료: {}", stats);
+        return stats;
     }
 
-    private DashboardStatsResponse buildStatsResponse(UserStatistics userStats, RoleStatistics roleStats, 
-                                                     MenuStatistics menuStats, int totalPermissions, LogStatistics logStats) {
-        return DashboardStatsResponse.builder()
-            .totalUsers(userStats.total())
-            .activeUsers(userStats.active())
-            .inactiveUsers(userStats.inactive())
-            .totalRoles(roleStats.total())
-            .activeRoles(roleStats.active())
-            .totalMenus(menuStats.total())
-            .visibleMenus(menuStats.visible())
-            .totalPermissions(totalPermissions)
-            .totalLogs(logStats.total())
-            .todayLogs(logStats.today())
-            .build();
+    /**
+     * 작업 스레드에서 집계 실행 - 제한 시간을 넘기면 실행 중인 문장을 취소하고, 아직 시작하지 않았으면 실행하지 않음
+     */
+    private CompletableFuture<DashboardStatsResponse> submit(Supplier<DashboardStatsResponse> query) {
+        AtomicBoolean timedOut = new AtomicBoolean();
+        AtomicReference<StatementCancelInterceptor.Scope> running = new AtomicReference<>();
+        try {
+            CompletableFuture<DashboardStatsResponse> future = CompletableFuture.supplyAsync(() -> {
+                if (timedOut.get()) {
+                    throw new CancellationException("대시보드 통계 조회 제한 시간 초과");
+                }
+                try (StatementCancelInterceptor.Scope scope = statementCancelInterceptor.track(statementTimeoutSeconds)) {
+                    running.set(scope);
+                    return query.get();
+                } finally {
+                    running.set(null);
+                }
+            }, dashboardQueryExecutor).orTimeout(queryTimeoutMs, TimeUnit.MILLISECONDS);
+            future.whenComplete((stats, e) -> {
+                if (e instanceof TimeoutException) {
+                    timedOut.set(true);
+                    StatementCancelInterceptor.Scope scope = running.get();
+                    if (scope != null) {
+                        scope.cancel();
+                    }
+                }
+            });
+            return future;
+        } catch (Exception e) {
+            // 실행기 포화로 거부된 경우
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
-    private record UserStatistics(int total, int active, int inactive) {}
-    private record RoleStatistics(int total, int active) {}
-    private record MenuStatistics(int total, int visible) {}
-    private record LogStatistics(int total, int today) {}
-}
\ No newline at end of file
+    private DashboardStatsResponse await(List<String> sections, CompletableFuture<DashboardStatsResponse> future,
+                                         List<String> unavailableSections) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("대시보드 통계 조회 제한 시간 초과 ({}ms): {}", queryTimeoutMs, sections);
+            } else {
+                log.error("대시보드 통계 조회 중 오류 발생: {}", sections, e.getCause());
+            }
+            unavailableSections.addAll(sections);
+            return null;
+        }
+    }
+}
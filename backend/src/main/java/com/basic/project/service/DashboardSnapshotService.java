@@ -0,0 +1,110 @@
+package com.basic.project.service;
+
+import com.basic.project.dto.DashboardStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 대시보드 통계 스냅샷 관리 (stale-while-revalidate)
+ * 스케줄러가 설정된 주기로 백그라운드에서 통계를 다시 계산하고, 요청은 항상 최신 스냅샷을 즉시 받음
+ * 갱신에 실패하면 이전 스냅샷을 계속 제공하고 스냅샷 나이/stale 메트릭으로 노출
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+    private final DashboardService dashboardService;
+    private final long staleAfterMs;
+    private final Counter refreshFailures;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean lastRefreshFailed;
+
+    public DashboardSnapshotService(
+            DashboardService dashboardService,
+            MeterRegistry meterRegistry,
+            @Value("${app.dashboard.refresh-interval-ms:30000}") long refreshIntervalMs,
+            @Value("${app.dashboard.stale-after-ms:0}") long staleAfterMs) {
+        this.dashboardService = dashboardService;
+        // 별도 설정이 없으면 갱신 주기의 3배가 지나면 stale로 판단
+        this.staleAfterMs = staleAfterMs > 0 ? staleAfterMs : refreshIntervalMs * 3;
+
+        this.refreshFailures = Counter.builder("dashboard.snapshot.refresh.failures")
+                .description("대시보드 스냅샷 갱신 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.snapshot.age", this, DashboardSnapshotService::getSnapshotAgeSeconds)
+                .description("현재 제공 중인 대시보드 스냅샷의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.snapshot.stale", this, service -> service.isStale() ? 1 : 0)
+                .description("대시보드 스냅샷이 오래되었거나 마지막 갱신이 실패했으면 1")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최신 대시보드 스냅샷 조회 (스냅샷 생성 시각과 나이 포함)
+     * 아직 스냅샷이 없으면 한 번만 동기적으로 계산
+     */
+    public DashboardStatsResponse getDashboardStats() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = loadInitialSnapshot();
+        }
+
+        long ageMs = System.currentTimeMillis() - current.createdAt();
+        return current.stats().toBuilder()
+                .snapshotAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(current.createdAt()), ZoneId.systemDefault()))
+                .snapshotAgeMs(ageMs)
+                .stale(lastRefreshFailed || ageMs > staleAfterMs)
+                .build();
+    }
+
+    /**
+     * 주기적으로 스냅샷 갱신 - 실패 시 이전 스냅샷 유지
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.refresh-interval-ms:30000}",
+               initialDelayString = "${app.dashboard.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            // 일부 섹션만 실패하면 해당 섹션은 이전 스냅샷 값을 유지
+            Snapshot previous = snapshot;
+            DashboardStatsResponse stats = dashboardService.getDashboardStats(previous != null ? previous.stats() : null);
+            snapshot = new Snapshot(stats, System.currentTimeMillis());
+            lastRefreshFailed = false;
+        } catch (Exception e) {
+            lastRefreshFailed = true;
+            refreshFailures.increment();
+            log.warn("대시보드 스냅샷 갱신 실패 - 이전 스냅샷 제공 (나이: {}초)", getSnapshotAgeSeconds(), e);
+        }
+    }
+
+    private synchronized Snapshot loadInitialSnapshot() {
+        // 다른 요청이 먼저 계산했으면 그 결과 사용
+        if (snapshot == null) {
+            snapshot = new Snapshot(dashboardService.getDashboardStats(), System.currentTimeMillis());
+        }
+        return snapshot;
+    }
+
+    private double getSnapshotAgeSeconds() {
+        Snapshot current = snapshot;
+        return current != null ? (System.currentTimeMillis() - current.createdAt()) / 1000.0 : 0;
+    }
+
+    private boolean isStale() {
+        Snapshot current = snapshot;
+        return lastRefreshFailed || (current != null && System.currentTimeMillis() - current.createdAt() > staleAfterMs);
+    }
+
+    private record Snapshot(DashboardStatsResponse stats, long createdAt) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.basic.project.service;
+
+import com.basic.project.domain.SystemLog;
+import com.basic.project.dto.DashboardStatsResponse;
+import com.basic.project.dto.LogRetentionResult;
+import com.basic.project.dto.LogSearchRequest;
+import com.basic.project.dto.LogStatsResponse;
+import com.basic.project.dto.LogTimeSeriesPoint;
+import com.basic.project.interceptor.StatementCancelInterceptor;
+import com.basic.project.mapper.StatisticsMapper;
+import com.basic.project.mapper.SystemLogMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * system_logs 테이블 로그 저장소 (기본)
+ * 검색어는 n-gram 전문 검색 인덱스가 있으면 사용 (LogFullTextSearch), 통계/시계열은 집계 테이블 (LogRollupService),
+ * 보존 정리는 기본 키 구간 삭제 또는 파티션 DROP (LogRetentionService)
+ */
+@Service
+@ConditionalOnProperty(name = SystemLogStore.TYPE_PROPERTY, havingValue = "DATABASE", matchIfMissing = true)
+public class DatabaseLogStore implements SystemLogStore {
+
+    private final SystemLogMapper systemLogMapper;
+    private final StatisticsMapper statisticsMapper;
+    private final LogFullTextSearch logFullTextSearch;
+    private final LogRollupService logRollupService;
+    private final LogRetentionService logRetentionService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StatementCancelInterceptor statementCancelInterceptor;
+
+    public DatabaseLogStore(
+            SystemLogMapper systemLogMapper,
+            StatisticsMapper statisticsMapper,
+            LogFullTextSearch logFullTextSearch,
+            LogRollupService logRollupService,
+            LogRetentionService logRetentionService,
+            PlatformTransactionManager transactionManager,
+            StatementCancelInterceptor statementCancelInterceptor) {
+        this.systemLogMapper = systemLogMapper;
+        this.statisticsMapper = statisticsMapper;
+        this.logFullTextSearch = logFullTextSearch;
+        this.logRollupService = logRollupService;
+        this.logRetentionService = logRetentionService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.statementCancelInterceptor = statementCancelInterceptor;
+    }
+
+    @Override
+    public void append(List<SystemLog> systemLogs) {
+        systemLogMapper.batchInsert(systemLogs);
+    }
+
+    @Override
+    public List<SystemLog> findAll() {
+        return systemLogMapper.findAll();
+    }
+
+    @Override
+    public List<SystemLog> findPage(int offset, int limit) {
+        return systemLogMapper.findWithPagination(offset, limit);
+    }
+
+    @Override
+    public List<SystemLog> findAfterCursor(LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return systemLogMapper.findAfterCursor(cursorCreatedAt, cursorId, limit);
+    }
+
+    @Override
+    public List<SystemLog> search(LogSearchRequest request) {
+        return systemLogMapper.search(request, logFullTextSearch.toQuery(request.getSearch()));
+    }
+
+    @Override
+    public List<SystemLog> searchAfterCursor(LogSearchRequest request, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return systemLogMapper.searchAfterCursor(request, logFullTextSearch.toQuery(request.getSearch()),
+                cursorCreatedAt, cursorId, limit);
+    }
+
+    /**
+     * MyBatis Cursor(드라이버 스트리밍)로 읽어 전달 - 읽는 동안 DB 연결 하나를 점유
+     * 전달 중 IOException(클라이언트 연결 끊김 등)이 나면 문장을 취소한 뒤 Cursor를 닫아 남은 행을 읽지 않고 연결을 반환
+     */
+    @Override
+    public void stream(LogSearchRequest request, LogConsumer consumer) throws IOException {
+        String fullTextQuery = logFullTextSearch.toQuery(request.getSearch());
+        try {
+            // Cursor는 트랜잭션(SqlSession)이 열려 있는 동안만 읽을 수 있음
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (StatementCancelInterceptor.Scope statement = statementCancelInterceptor.track();
+                     Cursor<SystemLog> cursor = systemLogMapper.streamBySearch(request, fullTextQuery)) {
+                    for (SystemLog systemLog : cursor) {
+                        try {
+                            consumer.accept(systemLog);
+                        } catch (IOException e) {
+                            // 그냥 닫으면 드라이버가 남은 행을 모두 읽을 때까지 반환하지 않으므로 Cursor를 닫기 전에 서버 실행을 중단
+                            statement.cancel();
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                } catch (IOException e) {
+                    // Cursor 닫기 실패
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public int count() {
+        return systemLogMapper.count();
+    }
+
+    @Override
+    public int countBySearch(LogSearchRequest request) {
+        return systemLogMapper.countBySearch(request, logFullTextSearch.toQuery(request.getSearch()));
+    }
+
+    @Override
+    public long countByLevel(String level) {
+        return systemLogMapper.countByLevel(level);
+    }
+
+    @Override
+    public int countByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return systemLogMapper.countByDateRange(startDate, endDate);
+    }
+
+    @Override
+    public DashboardStatsResponse getLogCounts() {
+        return statisticsMapper.getLogCounts();
+    }
+
+    @Override
+    public LogStatsResponse getStats() {
+        return logRollupService.getStats();
+    }
+
+    @Override
+    public long getTodayCount() {
+        return logRollupService.getTodayCount();
+    }
+
+    @Override
+    public List<LogTimeSeriesPoint> getHourlySeries(int days) {
+        return logRollupService.getHourlySeries(days);
+    }
+
+    @Override
+    public List<LogTimeSeriesPoint> getMinuteSeries(int minutes) {
+        return logRollupService.getMinuteSeries(minutes);
+    }
+
+    @Override
+    public int getMaxMinuteSeriesLength() {
+        return logRollupService.getMaxMinuteSeriesLength();
+    }
+
+    /**
+     * 구간별로 나눠 삭제하므로 트랜잭션으로 묶지 않음
+     */
+    @Override
+    public LogRetentionResult purge(int days) {
+        return logRetentionService.purge(days);
+    }
+
+    @Override
+    public LogRetentionResult getLastRetentionResult() {
+        return logRetentionService.getLastResult();
+    }
+}
@@ -0,0 +1,50 @@
+package com.basic.project.service;
+
+import com.basic.project.config.ManagedExecutorRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행기 모니터링 서비스
+ * 실행기별 활성 스레드, 큐 길이, 거부 수, 작업 대기/실행 시간 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class ExecutorMonitoringService {
+
+    private final ManagedExecutorRegistry managedExecutorRegistry;
+
+    /**
+     * 전체 실행기 상태 조회 (실행기 이름순)
+     */
+    public Map<String, Object> getExecutorStatistics() {
+        Map<String, Object> executors = new TreeMap<>();
+        for (ManagedExecutorRegistry.ManagedExecutor executor : managedExecutorRegistry.getExecutors()) {
+            Map<String, Object> statistics = new LinkedHashMap<>();
+            statistics.put("type", executor.isVirtual() ? "virtual" : "platform");
+            statistics.put("activeThreads", executor.getActiveCount());
+            statistics.put("poolSize", executor.getPoolSize());
+            statistics.put("maxPoolSize", executor.getSpec().getMaxSize());
+            statistics.put("queueDepth", executor.getQueueSize());
+            statistics.put("queueCapacity", executor.isVirtual() ? 0 : executor.getSpec().getQueueCapacity());
+            statistics.put("rejectionPolicy", executor.getSpec().getRejectionPolicy());
+            statistics.put("completedTasks", executor.getCompletedTaskCount());
+            statistics.put("rejectedTasks", executor.getRejectedCount());
+            putLatency(statistics, "taskWait", executor.getWaitTimer());
+            putLatency(statistics, "taskExecution", executor.getExecutionTimer());
+            executors.put(executor.getName(), statistics);
+        }
+        return executors;
+    }
+
+    private void putLatency(Map<String, Object> statistics, String prefix, Timer timer) {
+        statistics.put(prefix + "AvgMs", Math.round(timer.mean(TimeUnit.MILLISECONDS) * 100) / 100.0);
+        statistics.put(prefix + "MaxMs", Math.round(timer.max(TimeUnit.MILLISECONDS) * 100) / 100.0);
+    }
+}
@@ -0,0 +1,191 @@
+package com.basic.project.service;
+
+import com.basic.project.domain.SystemLog;
+import com.basic.project.dto.LogSearchRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 시스템 로그 내보내기 (CSV / NDJSON)
+ * 검색 조건에 맞는 로그를 저장소에서 한 건씩 읽어 바로 응답에 기록하므로 로그 수와 무관하게 메모리 사용이 일정함
+ * 내보내는 동안 DB 연결(DATABASE 저장소)을 하나 점유하므로 동시 내보내기 수는 max-concurrent로 제한
+ */
+@Slf4j
+@Service
+public class LogExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String CSV_HEADER = "id,created_at,level,username,action,message,ip_address,user_agent,details";
+
+    @Getter
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson)");
+            }
+        }
+    }
+
+    private final SystemLogStore systemLogStore;
+    private final ObjectWriter jsonWriter;
+    private final Semaphore exportPermits;
+    private final int maxConcurrentExports;
+    private final int flushRows;
+
+    private final MeterRegistry meterRegistry;
+
+    public LogExportService(
+            SystemLogStore systemLogStore,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.log-export.max-concurrent:2}") int maxConcurrentExports,
+            @Value("${app.log-export.flush-rows:1000}") int flushRows) {
+        this.systemLogStore = systemLogStore;
+        this.jsonWriter = objectMapper.writerFor(SystemLog.class);
+        this.maxConcurrentExports = maxConcurrentExports;
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+        this.flushRows = flushRows;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("log.export.active", exportPermits, permits -> maxConcurrentExports - permits.availablePermits())
+                .description("진행 중인 로그 내보내기 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 내보내기 응답 본문 생성 - 본문은 MVC 비동기 실행기에서 실행되고 끝나면 동시 실행 자리를 반환
+     * @throws IllegalStateException 동시 내보내기 수 한도 초과
+     */
+    public StreamingResponseBody export(LogSearchRequest request, Format format, boolean gzip) {
+        if (!exportPermits.tryAcquire()) {
+            throw new IllegalStateException("진행 중인 로그 내보내기가 많습니다 (최대 " + maxConcurrentExports + "건). 잠시 후 다시 시도하세요");
+        }
+        return outputStream -> {
+            try {
+                write(request, format, gzip, outputStream);
+            } finally {
+                exportPermits.release();
+            }
+        };
+    }
+
+    private void write(LogSearchRequest request, Format format, boolean gzip, OutputStream outputStream) throws IOException {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        String outcome = "error";
+        try {
+            GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    gzip ? gzipStream : outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            if (format == Format.CSV) {
+                // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                writer.write('\uFEFF');
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            systemLogStore.stream(request, systemLog -> {
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, systemLog);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(systemLog));
+                    writer.write('\n');
+                }
+                if (++rows[0] % flushRows == 0) {
+                    writer.flush();
+                }
+            });
+
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+            outcome = "success";
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등
+            log.info("로그 내보내기 중단 - {}건 전송 후 연결 종료: {}", rows[0], e.getMessage());
+            throw e;
+        } finally {
+            Timer.builder("log.export.duration")
+                    .description("로그 내보내기 시간")
+                    .tag("format", format.name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Counter.builder("log.export.rows")
+                    .description("내보낸 로그 수")
+                    .tag("format", format.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .increment(rows[0]);
+        }
+        log.info("로그 내보내기 완료 - {} {}건 ({}ms)", format, rows[0],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void writeCsvRow(Writer writer, SystemLog systemLog) throws IOException {
+        writer.write(String.valueOf(systemLog.getId()));
+        writer.write(',');
+        LocalDateTime createdAt = systemLog.getCreatedAt();
+        writer.write(createdAt != null ? CSV_DATE_FORMAT.format(createdAt) : "");
+        for (String value : new String[]{systemLog.getLevel(), systemLog.getUsername(), systemLog.getAction(),
+                systemLog.getMessage(), systemLog.getIpAddress(), systemLog.getUserAgent(), systemLog.getDetails()}) {
+            writer.write(',');
+            writer.write(csvCell(value));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * CSV 셀 값 - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 스프레드시트 수식으로 해석될 수 있는 값은 앞에 ' 추가
+     */
+    private static String csvCell(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String cell = value;
+        char first = cell.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            cell = "'" + cell;
+        }
+        if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+            return '"' + cell.replace("\"", "\"\"") + '"';
+        }
+        return cell;
+    }
+}
@@ -0,0 +1,106 @@
+package com.basic.project.service;
+
+import com.basic.project.mapper.SystemLogMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 검색어(search)의 전문 검색 변환
+ * system_logs의 n-gram FULLTEXT 인덱스(message, action, username)를 사용할 수 있으면 검색어를 BOOLEAN MODE 구문 검색식으로 바꿔
+ * MATCH ... AGAINST로 조회하고, 사용할 수 없으면 null을 반환해 기존 LIKE 검색으로 조회
+ * - mode AUTO: 인덱스가 있으면 사용 (처음 확인한 결과를 유지), FULLTEXT: 항상 사용, LIKE: 사용 안 함
+ * - n-gram 토큰보다 짧은 검색어(예: 한 글자)는 인덱스로 찾을 수 없으므로 LIKE로 조회
+ * - MySQL은 파티션 테이블에 FULLTEXT 인덱스를 허용하지 않으므로 PARTITION 보존 정리(system_logs_partitioning.sql)와 함께 쓸 수 없음
+ *   (FULLTEXT 모드인데 system_logs가 파티션 테이블이면 기동 실패)
+ * (app.log-store.type: DATABASE일 때만 사용)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = SystemLogStore.TYPE_PROPERTY, havingValue = "DATABASE", matchIfMissing = true)
+public class LogFullTextSearch {
+
+    public enum Mode {
+        AUTO, FULLTEXT, LIKE
+    }
+
+    private final SystemLogMapper systemLogMapper;
+    private final Mode mode;
+    private final int ngramTokenSize;
+
+    // AUTO 모드에서 확인한 인덱스 존재 여부 (확인 전 null)
+    private volatile Boolean indexAvailable;
+
+    public LogFullTextSearch(
+            SystemLogMapper systemLogMapper,
+            @Value("${app.log-search.mode:AUTO}") Mode mode,
+            @Value("${app.log-search.ngram-token-size:2}") int ngramTokenSize) {
+        this.systemLogMapper = systemLogMapper;
+        this.mode = mode;
+        this.ngramTokenSize = ngramTokenSize;
+    }
+
+    /**
+     * FULLTEXT 모드는 파티션 테이블에서 검색마다 실패하므로 기동 시 확인 (확인 쿼리 자체가 실패하면 경고만 남김)
+     */
+    @PostConstruct
+    public void verifyMode() {
+        if (mode != Mode.FULLTEXT) {
+            return;
+        }
+        int partitions;
+        try {
+            partitions = systemLogMapper.countPartitions();
+        } catch (Exception e) {
+            log.warn("system_logs 파티션 여부 확인 실패 - FULLTEXT 검색 설정을 확인하지 못함: {}", e.getMessage());
+            return;
+        }
+        if (partitions > 0) {
+            throw new IllegalStateException("app.log-search.mode: FULLTEXT는 파티션 테이블에서 사용할 수 없습니다 "
+                    + "(system_logs 파티션 " + partitions + "개) - app.log-search.mode를 AUTO 또는 LIKE로 설정하세요");
+        }
+    }
+
+    /**
+     * 검색어를 전문 검색식으로 변환
+     * @return 전문 검색식 (구문 검색 "..."), LIKE로 조회해야 하면 null
+     */
+    public String toQuery(String search) {
+        if (search == null || search.isBlank() || !isEnabled()) {
+            return null;
+        }
+        // 구문 안에서는 연산자(+, -, * 등)가 문자로 취급되므로 따옴표만 제거
+        String term = search.trim().replace('"', ' ').replaceAll("\\s+", " ");
+        for (String word : term.split(" ")) {
+            if (word.codePointCount(0, word.length()) < ngramTokenSize) {
+                return null;
+            }
+        }
+        return '"' + term + '"';
+    }
+
+    public boolean isEnabled() {
+        return switch (mode) {
+            case FULLTEXT -> true;
+            case LIKE -> false;
+            case AUTO -> isIndexAvailable();
+        };
+    }
+
+    private boolean isIndexAvailable() {
+        Boolean available = indexAvailable;
+        if (available == null) {
+            try {
+                available = systemLogMapper.countFullTextIndexes() > 0;
+                indexAvailable = available;
+                log.info("로그 검색: {}", available ? "n-gram 전문 검색 인덱스 사용" : "전문 검색 인덱스 없음 - LIKE 검색 사용");
+            } catch (Exception e) {
+                log.warn("로그 전문 검색 인덱스 확인 실패 - 이번 검색은 LIKE 사용: {}", e.getMessage());
+                return false;
+            }
+        }
+        return available;
+    }
+}
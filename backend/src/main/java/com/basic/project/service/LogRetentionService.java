@@ -0,0 +1,358 @@
+package com.basic.project.service;
+
+import com.basic.project.dto.LogPartition;
+import com.basic.project.dto.LogRetentionResult;
+import com.basic.project.mapper.LogRetentionMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시스템 로그 보존 기간 정리
+ * - BATCH: 기본 키 구간별로 batch-size건씩 DELETE하고 구간 사이에 pause-ms만큼 쉼 (한 문장이 오래 잠그거나 복제를 지연시키지 않음)
+ * - PARTITION: 일별 파티션(RANGE COLUMNS(created_at)) 중 보존 기간이 지난 파티션을 통째로 DROP하고 이후 파티션을 미리 생성
+ *   (database/system_logs_partitioning.sql 적용 필요, 파티션이 없으면 BATCH로 동작)
+ * 실행은 max-runtime-ms까지만 하고 남은 로그는 다음 실행에서 이어서 정리
+ * 정리가 끝난 구간의 집계(rollup)도 함께 삭제하고 대시보드 로그 수를 차감
+ * (app.log-store.type: DATABASE일 때만 사용, SEGMENT는 SegmentLogStore가 세그먼트 단위로 정리)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = SystemLogStore.TYPE_PROPERTY, havingValue = "DATABASE", matchIfMissing = true)
+public class LogRetentionService {
+
+    public enum Mode {
+        BATCH, PARTITION
+    }
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final String MAXVALUE = "MAXVALUE";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final DateTimeFormatter PARTITION_BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final LogRetentionMapper logRetentionMapper;
+    private final LogRollupService logRollupService;
+    private final DashboardCounterService dashboardCounterService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final Mode mode;
+    private final int batchSize;
+    private final long pauseMs;
+    private final long maxRuntimeMs;
+    private final int partitionsAheadDays;
+
+    // 수동 실행(API)과 스케줄 실행이 겹치지 않도록 한 번에 하나만 실행
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private final Counter batches;
+    private final Counter droppedPartitions;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong runDeletedRows = new AtomicLong();
+    private final AtomicLong oldestLogAgeSeconds = new AtomicLong();
+
+    private volatile LogRetentionResult lastResult;
+
+    public LogRetentionService(
+            LogRetentionMapper logRetentionMapper,
+            LogRollupService logRollupService,
+            DashboardCounterService dashboardCounterService,
+            MeterRegistry meterRegistry,
+            @Value("${app.log-retention.enabled:true}") boolean enabled,
+            @Value("${app.log-retention.retention-days:30}") int retentionDays,
+            @Value("${app.log-retention.mode:BATCH}") Mode mode,
+            @Value("${app.log-retention.batch-size:5000}") int batchSize,
+            @Value("${app.log-retention.pause-ms:200}") long pauseMs,
+            @Value("${app.log-retention.max-runtime-ms:1800000}") long maxRuntimeMs,
+            @Value("${app.log-retention.partitions-ahead-days:7}") int partitionsAheadDays) {
+        this.logRetentionMapper = logRetentionMapper;
+        this.logRollupService = logRollupService;
+        this.dashboardCounterService = dashboardCounterService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxRuntimeMs = maxRuntimeMs;
+        this.partitionsAheadDays = partitionsAheadDays;
+
+        this.batches = Counter.builder("log.retention.batches")
+                .description("보존 정리에서 삭제한 기본 키 구간 수")
+                .register(meterRegistry);
+        this.droppedPartitions = Counter.builder("log.retention.partitions.dropped")
+                .description("보존 정리에서 삭제한 파티션 수")
+                .register(meterRegistry);
+        Gauge.builder("log.retention.running", running, AtomicInteger::get)
+                .description("보존 정리 실행 중 여부 (1: 실행 중)")
+                .register(meterRegistry);
+        Gauge.builder("log.retention.run.deleted", runDeletedRows, AtomicLong::get)
+                .description("현재(또는 마지막) 보존 정리에서 삭제한 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("log.retention.oldest.age", oldestLogAgeSeconds, AtomicLong::get)
+                .description("남아 있는 가장 오래된 로그의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.log-retention.cron:0 30 3 * * *}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            purge(retentionDays);
+        } catch (IllegalStateException e) {
+            log.info("로그 보존 정리 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("로그 보존 정리 실패 - 다음 주기에 이어서 정리", e);
+        }
+    }
+
+    /**
+     * days일이 지난 로그 정리
+     * @throws IllegalArgumentException days가 1 미만
+     * @throws IllegalStateException 이미 정리가 실행 중
+     */
+    public LogRetentionResult purge(int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("보존 기간은 1일 이상이어야 합니다");
+        }
+        if (!runLock.tryLock()) {
+            throw new IllegalStateException("로그 보존 정리가 이미 실행 중입니다");
+        }
+        running.set(1);
+        runDeletedRows.set(0);
+        long start = System.nanoTime();
+        Mode effectiveMode = mode;
+        LogRetentionResult result = null;
+        try {
+            List<LogPartition> partitions = mode == Mode.PARTITION ? logRetentionMapper.findPartitions() : List.of();
+            if (mode == Mode.PARTITION && partitions.isEmpty()) {
+                log.warn("system_logs에 파티션이 없어 기본 키 구간 삭제로 정리");
+                effectiveMode = Mode.BATCH;
+            }
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxRuntimeMs);
+            result = effectiveMode == Mode.PARTITION
+                    ? purgePartitions(days, partitions, deadline)
+                    : purgeBatches(days, deadline);
+            result.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            lastResult = result;
+            log.info("로그 보존 정리 {} - {} 이전 로그 {}건 삭제 ({}ms, 구간 {}개, 파티션 {})",
+                    result.isCompleted() ? "완료" : "중단 (최대 실행 시간 도달)", result.getCutoff(),
+                    result.getDeletedRows(), result.getDurationMs(), result.getBatches(), result.getDroppedPartitions());
+            return result;
+        } finally {
+            String outcome = result == null ? "error" : result.isCompleted() ? "completed" : "time_limit";
+            Timer.builder("log.retention.duration")
+                    .description("로그 보존 정리 실행 시간")
+                    .tag("mode", effectiveMode.name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            updateOldestLogAge();
+            running.set(0);
+            runLock.unlock();
+        }
+    }
+
+    public LogRetentionResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * 기본 키 구간 삭제
+     * cutoff 이후 첫 로그 ID 앞쪽을 batch-size건씩 나눠 각각 별도 문장(자동 커밋)으로 삭제
+     */
+    private LogRetentionResult purgeBatches(int days, long deadline) {
+        // 시간 단위 집계와 어긋나지 않도록 삭제 기준을 정시로 맞춤
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(days).truncatedTo(ChronoUnit.HOURS);
+        LogRetentionResult result = newResult(Mode.BATCH, cutoff);
+
+        Long boundaryId = logRetentionMapper.findFirstIdSince(cutoff);
+        if (boundaryId == null) {
+            Long maxId = logRetentionMapper.findMaxId();
+            boundaryId = maxId != null ? maxId + 1 : 0L;
+        }
+
+        long afterId = 0;
+        while (System.nanoTime() < deadline) {
+            Long upperId = logRetentionMapper.findPurgeUpperId(afterId, boundaryId, batchSize);
+            if (upperId == null) {
+                result.setCompleted(true);
+                break;
+            }
+            long fromId = afterId;
+            dashboardCounterService.trackLogWrite(() -> {
+                int deleted = logRetentionMapper.deleteLogsInRange(fromId, upperId, cutoff);
+                recordDeleted(result, Mode.BATCH, deleted);
+                return deleted;
+            });
+            afterId = upperId;
+            result.setBatches(result.getBatches() + 1);
+            batches.increment();
+            if (!pause()) {
+                break;
+            }
+        }
+
+        // 구간이 모두 정리된 경우에만 집계 삭제 (중단되면 남은 로그와 집계를 다음 실행까지 유지)
+        if (result.isCompleted()) {
+            logRollupService.deleteBucketsBefore(cutoff);
+        }
+        return result;
+    }
+
+    /**
+     * 파티션 삭제 - 상한(LESS THAN)이 cutoff 이전인 파티션을 오래된 순서로 DROP하고 이후 partitions-ahead-days일 파티션 생성
+     */
+    private LogRetentionResult purgePartitions(int days, List<LogPartition> partitions, long deadline) {
+        LocalDateTime cutoff = LocalDate.now().minusDays(days).atStartOfDay();
+        LogRetentionResult result = newResult(Mode.PARTITION, cutoff);
+        result.setCompleted(true);
+
+        LocalDateTime droppedUpTo = null;
+        for (LogPartition partition : partitions) {
+            LocalDateTime upperBound = upperBound(partition);
+            if (upperBound == null || upperBound.isAfter(cutoff)) {
+                break;
+            }
+            if (System.nanoTime() >= deadline) {
+                result.setCompleted(false);
+                break;
+            }
+            dashboardCounterService.trackLogWrite(() -> {
+                long rows = logRetentionMapper.countPartitionRows(partition.getName());
+                logRetentionMapper.dropPartition(partition.getName());
+                recordDeleted(result, Mode.PARTITION, rows);
+                return rows;
+            });
+            droppedUpTo = upperBound;
+            result.getDroppedPartitions().add(partition.getName());
+            droppedPartitions.increment();
+        }
+
+        if (droppedUpTo != null) {
+            logRollupService.deleteBucketsBefore(droppedUpTo);
+        }
+        // 삭제한 파티션까지 포함한 마지막 상한 다음 날부터 생성
+        createUpcomingPartitions(partitions);
+        return result;
+    }
+
+    /**
+     * 마지막 일별 파티션 다음 날부터 오늘 + partitions-ahead-days일까지 파티션 생성
+     * MAXVALUE 파티션(pmax)이 있으면 나눠서(REORGANIZE) 만들고, 없으면 추가(ADD)
+     */
+    private void createUpcomingPartitions(List<LogPartition> partitions) {
+        LocalDateTime lastBound = null;
+        boolean hasMaxPartition = false;
+        for (LogPartition partition : partitions) {
+            LocalDateTime upperBound = upperBound(partition);
+            if (upperBound == null) {
+                hasMaxPartition = true;
+            } else if (lastBound == null || upperBound.isAfter(lastBound)) {
+                lastBound = upperBound;
+            }
+        }
+
+        LocalDate lastDay = LocalDate.now().plusDays(partitionsAheadDays);
+        LocalDate day = lastBound != null ? lastBound.toLocalDate() : LocalDate.now();
+        List<LogPartition> upcoming = new ArrayList<>();
+        for (; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            upcoming.add(LogPartition.builder()
+                    .name(PARTITION_NAME_FORMAT.format(day))
+                    .description("'" + PARTITION_BOUND_FORMAT.format(day.plusDays(1).atStartOfDay()) + "'")
+                    .build());
+        }
+        if (upcoming.isEmpty()) {
+            return;
+        }
+
+        if (hasMaxPartition) {
+            upcoming.add(LogPartition.builder().name(MAX_PARTITION).description(MAXVALUE).build());
+            logRetentionMapper.reorganizeMaxPartition(MAX_PARTITION, upcoming);
+        } else {
+            logRetentionMapper.addPartitions(upcoming);
+        }
+        log.info("system_logs 파티션 생성: {} ~ {}", upcoming.get(0).getName(), PARTITION_NAME_FORMAT.format(lastDay));
+    }
+
+    /**
+     * 파티션 상한 (MAXVALUE면 null)
+     */
+    private static LocalDateTime upperBound(LogPartition partition) {
+        String description = partition.getDescription();
+        if (description == null || MAXVALUE.equalsIgnoreCase(description.trim())) {
+            return null;
+        }
+        String value = description.trim().replace("'", "");
+        return value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value, PARTITION_BOUND_FORMAT);
+    }
+
+    private LogRetentionResult newResult(Mode mode, LocalDateTime cutoff) {
+        return LogRetentionResult.builder()
+                .mode(mode.name())
+                .cutoff(cutoff)
+                .droppedPartitions(new ArrayList<>())
+                .build();
+    }
+
+    private void recordDeleted(LogRetentionResult result, Mode mode, long rows) {
+        result.setDeletedRows(result.getDeletedRows() + rows);
+        runDeletedRows.addAndGet(rows);
+        Counter.builder("log.retention.deleted")
+                .description("보존 정리로 삭제한 로그 수")
+                .tag("mode", mode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment(rows);
+        dashboardCounterService.logsDeleted((int) rows);
+    }
+
+    /**
+     * 구간 사이 대기 (복제 지연/잠금 경합 완화)
+     * @return 인터럽트되면 false (정리 중단)
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void updateOldestLogAge() {
+        try {
+            LocalDateTime oldest = logRetentionMapper.findOldestCreatedAt();
+            oldestLogAgeSeconds.set(oldest != null ? Duration.between(oldest, LocalDateTime.now()).getSeconds() : 0);
+        } catch (Exception e) {
+            log.debug("가장 오래된 로그 조회 실패", e);
+        }
+    }
+}
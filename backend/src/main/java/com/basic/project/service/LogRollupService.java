@@ -0,0 +1,176 @@
+package com.basic.project.service;
+
+import com.basic.project.dto.LogStatsResponse;
+import com.basic.project.dto.LogTimeSeriesPoint;
+import com.basic.project.mapper.LogRollupMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시스템 로그 분/시간 단위 집계 (system_log_rollup_minute, system_log_rollup_hour)
+ * 스케줄러가 마지막으로 집계한 로그 ID 이후의 로그를 구간(batch-size)별로 레벨/액션 건수로 합산하고 진행 위치를 함께 커밋
+ * 진행 위치는 아직 커밋되지 않았을 수 있는 ID(비어 있는 ID) 앞에서 멈추므로 늦게 커밋된 로그를 건너뛰지 않음
+ * 통계/오늘 건수/시계열은 집계 테이블과 아직 집계되지 않은 최근 로그(ID 범위 조회)만 읽어 로그 수와 무관하게 응답
+ * (app.log-store.type: DATABASE일 때만 사용)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = SystemLogStore.TYPE_PROPERTY, havingValue = "DATABASE", matchIfMissing = true)
+public class LogRollupService {
+
+    private final LogRollupMapper logRollupMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int lagSeconds;
+    private final int maxBatchesPerRun;
+    private final int minuteRetentionHours;
+
+    private final Timer rollupTimer;
+    private final Counter rollupBatches;
+    private final AtomicLong pendingLogs = new AtomicLong();
+
+    private volatile boolean stateInitialized;
+
+    public LogRollupService(
+            LogRollupMapper logRollupMapper,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.log-rollup.batch-size:50000}") int batchSize,
+            @Value("${app.log-rollup.lag-seconds:5}") int lagSeconds,
+            @Value("${app.log-rollup.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${app.log-rollup.minute-retention-hours:48}") int minuteRetentionHours) {
+        this.logRollupMapper = logRollupMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.lagSeconds = lagSeconds;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.minuteRetentionHours = minuteRetentionHours;
+
+        this.rollupTimer = Timer.builder("log.rollup.duration")
+                .description("로그 집계 1회 실행 시간")
+                .register(meterRegistry);
+        this.rollupBatches = Counter.builder("log.rollup.batches")
+                .description("집계 테이블에 반영한 로그 구간 수")
+                .register(meterRegistry);
+        Gauge.builder("log.rollup.pending", pendingLogs, AtomicLong::get)
+                .description("아직 집계 테이블에 반영되지 않은 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 로그를 집계 테이블에 반영하고 보존 기간이 지난 분 단위 집계 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.log-rollup.interval-ms:10000}",
+               initialDelayString = "${app.log-rollup.interval-ms:10000}")
+    public void rollup() {
+        rollupTimer.record(() -> {
+            try {
+                if (!stateInitialized) {
+                    logRollupMapper.insertStateIfAbsent();
+                    stateInitialized = true;
+                }
+
+                int batches = 0;
+                while (batches < maxBatchesPerRun && Boolean.TRUE.equals(transactionTemplate.execute(status -> rollupNextBatch()))) {
+                    batches++;
+                }
+                rollupBatches.increment(batches);
+
+                logRollupMapper.deleteMinuteBucketsBefore(
+                        LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusHours(minuteRetentionHours));
+                pendingLogs.set(logRollupMapper.countPending());
+            } catch (Exception e) {
+                log.warn("로그 집계 실패 - 다음 주기에 이어서 집계", e);
+            }
+        });
+    }
+
+    /**
+     * 다음 로그 구간을 집계 - 진행 위치 행을 잠그고 같은 트랜잭션에서 집계와 위치 갱신
+     * 구간의 끝은 ID가 이어지는 데까지이며, 비어 있는 ID는 다음 로그의 저장 시각(inserted_at)이 lag-seconds 지난 뒤에 넘어감
+     * @return 집계한 구간이 있으면 true
+     */
+    private boolean rollupNextBatch() {
+        long lastId = logRollupMapper.lockLastRolledUpId();
+        Long upperId = logRollupMapper.findRollupUpperId(lastId, lagSeconds, batchSize);
+        if (upperId == null) {
+            return false;
+        }
+        logRollupMapper.rollupMinutes(lastId, upperId);
+        logRollupMapper.rollupHours(lastId, upperId);
+        logRollupMapper.updateLastRolledUpId(upperId);
+        log.debug("로그 집계 완료: id {} ~ {}", lastId + 1, upperId);
+        return true;
+    }
+
+    public LogStatsResponse getStats() {
+        return logRollupMapper.getStats();
+    }
+
+    public long getTodayCount() {
+        return logRollupMapper.countSince(LocalDate.now().atStartOfDay());
+    }
+
+    /**
+     * 최근 days일의 시간별 로그 수 (로그가 없는 시간은 0)
+     */
+    public List<LogTimeSeriesPoint> getHourlySeries(int days) {
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime from = to.minusDays(days).plusHours(1);
+        return fillGaps(logRollupMapper.getHourlySeries(from), from, to, ChronoUnit.HOURS);
+    }
+
+    /**
+     * 최근 minutes분의 분별 로그 수 (로그가 없는 분은 0)
+     */
+    public List<LogTimeSeriesPoint> getMinuteSeries(int minutes) {
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime from = to.minusMinutes(minutes - 1L);
+        return fillGaps(logRollupMapper.getMinuteSeries(from), from, to, ChronoUnit.MINUTES);
+    }
+
+    public int getMaxMinuteSeriesLength() {
+        return minuteRetentionHours * 60;
+    }
+
+    /**
+     * 로그 보존 기간 정리 시 cutoff 이전 구간의 집계 삭제 (cutoff는 시간 단위로 맞춘 시각)
+     */
+    public void deleteBucketsBefore(LocalDateTime cutoff) {
+        logRollupMapper.deleteHourBucketsBefore(cutoff);
+        logRollupMapper.deleteMinuteBucketsBefore(cutoff);
+    }
+
+    /**
+     * from ~ to 구간별 시계열 (points에 없는 구간은 0)
+     */
+    static List<LogTimeSeriesPoint> fillGaps(List<LogTimeSeriesPoint> points, LocalDateTime from, LocalDateTime to,
+                                             ChronoUnit unit) {
+        Map<LocalDateTime, LogTimeSeriesPoint> byBucket = points.stream()
+                .collect(Collectors.toMap(LogTimeSeriesPoint::getBucketStart, Function.identity()));
+        List<LogTimeSeriesPoint> series = new ArrayList<>();
+        for (LocalDateTime bucket = from; !bucket.isAfter(to); bucket = bucket.plus(1, unit)) {
+            LogTimeSeriesPoint point = byBucket.get(bucket);
+            series.add(point != null ? point : LogTimeSeriesPoint.builder().bucketStart(bucket).build());
+        }
+        return series;
+    }
+}
@@ -0,0 +1,499 @@
+package com.basic.project.service;
+
+import com.basic.project.domain.SystemLog;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 로그 세그먼트 파일 하나 (SegmentLogStore의 시간 구간 하나)
+ * - {name}.seg: 블록을 이어 붙인 데이터 파일 (블록 = 헤더 16바이트 + Deflate로 압축한 로그 레코드들)
+ * - {name}.idx: 블록마다 64바이트 항목을 가진 희소 시간 인덱스 (블록 위치, 건수, 시간/ID 범위, 레벨별 건수)
+ * 쓰기는 파일 끝에 추가만 하고 (데이터 → 인덱스 순), 읽기는 두 파일을 메모리 매핑해서 커밋된 블록까지만 사용
+ * 한 파일을 한 번에 매핑하므로 데이터 파일은 2GB를 넘을 수 없음 (넘으면 segment.duration을 줄여야 함)
+ */
+@Slf4j
+final class LogSegment {
+
+    static final String DATA_EXTENSION = ".seg";
+    static final String INDEX_EXTENSION = ".idx";
+
+    private static final int BLOCK_MAGIC = 0x534C4F47;
+    private static final int BLOCK_HEADER_BYTES = 16;
+    private static final int INDEX_ENTRY_BYTES = 64;
+    private static final long MAX_DATA_BYTES = Integer.MAX_VALUE;
+
+    /**
+     * 블록 인덱스 항목 (시간은 epoch 밀리초, 로컬 시각 기준)
+     */
+    record Block(long offset, int length, int count, long minTime, long maxTime, long minId, long maxId,
+                 int info, int warning, int error) {
+
+        /**
+         * 레벨별 건수 (INFO/WARNING/ERROR가 아니면 -1 - 블록을 읽어서 세야 함)
+         */
+        int countOf(String level) {
+            if ("INFO".equalsIgnoreCase(level)) {
+                return info;
+            }
+            if ("WARNING".equalsIgnoreCase(level)) {
+                return warning;
+            }
+            if ("ERROR".equalsIgnoreCase(level)) {
+                return error;
+            }
+            return -1;
+        }
+    }
+
+    // 읽기에 공개된 블록 수와 데이터 크기 (쓰기가 끝난 뒤 함께 갱신)
+    private record Committed(int blocks, long dataSize) {
+    }
+
+    @Getter
+    private final String name;
+    @Getter
+    private final long startMillis;
+    private final Path dataFile;
+    private final Path indexFile;
+
+    private volatile Committed committed = new Committed(0, 0);
+
+    // 쓰기 채널 (SegmentLogStore의 쓰기 잠금 안에서만 사용, 처음 쓸 때 열림)
+    private FileChannel dataChannel;
+    private FileChannel indexChannel;
+
+    // 읽기 매핑 (커밋된 크기가 매핑보다 커지면 다시 매핑)
+    private MappedByteBuffer dataMap;
+    private MappedByteBuffer indexMap;
+
+    LogSegment(Path directory, String name, long startMillis) {
+        this.name = name;
+        this.startMillis = startMillis;
+        this.dataFile = directory.resolve(name + DATA_EXTENSION);
+        this.indexFile = directory.resolve(name + INDEX_EXTENSION);
+    }
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    int getBlockCount() {
+        return committed.blocks();
+    }
+
+    long getDataSize() {
+        return committed.dataSize();
+    }
+
+    /**
+     * 비정상 종료 후 파일 정리
+     * 데이터 파일 안에 있는 인덱스 항목만 남기고, 인덱스를 기록하기 전에 종료되어 인덱스에 없는 블록은 헤더/CRC를 확인해 인덱스에 추가
+     * 확인할 수 없는 나머지(쓰다 만 블록)는 잘라냄
+     */
+    void recover() throws IOException {
+        long dataSize = Files.exists(dataFile) ? Files.size(dataFile) : 0;
+        long indexSize = Files.exists(indexFile) ? Files.size(indexFile) : 0;
+        List<Block> recovered = new ArrayList<>();
+        int indexed = 0;
+        long end = 0;
+
+        try (FileChannel data = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel index = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer entries = ByteBuffer.allocate((int) (indexSize / INDEX_ENTRY_BYTES * INDEX_ENTRY_BYTES));
+            readFully(index, entries, 0);
+            for (int i = 0; i < entries.capacity() / INDEX_ENTRY_BYTES; i++) {
+                Block block = readEntry(entries, i * INDEX_ENTRY_BYTES);
+                if (block.offset() != end || block.offset() + block.length() > dataSize) {
+                    break;
+                }
+                indexed++;
+                end += block.length();
+            }
+
+            if (end < dataSize) {
+                MappedByteBuffer tail = data.map(FileChannel.MapMode.READ_ONLY, 0, dataSize);
+                while (true) {
+                    int length = blockLength(tail, end, dataSize);
+                    if (length < 0) {
+                        break;
+                    }
+                    try {
+                        recovered.add(summarize(decodeBlock(tail, end, length), end, length));
+                    } catch (IOException e) {
+                        break;
+                    }
+                    end += length;
+                }
+            }
+
+            ByteBuffer recoveredEntries = ByteBuffer.allocate(recovered.size() * INDEX_ENTRY_BYTES);
+            recovered.forEach(block -> putEntry(recoveredEntries, block));
+            recoveredEntries.flip();
+            writeFully(index, recoveredEntries, (long) indexed * INDEX_ENTRY_BYTES);
+            index.truncate((long) (indexed + recovered.size()) * INDEX_ENTRY_BYTES);
+            data.truncate(end);
+        }
+
+        if (!recovered.isEmpty() || end < dataSize || indexed * (long) INDEX_ENTRY_BYTES < indexSize) {
+            log.warn("로그 세그먼트 {} 복구 - 인덱스 추가 블록 {}개, 잘라낸 데이터 {}바이트",
+                    name, recovered.size(), dataSize - end);
+        }
+        committed = new Committed(indexed + recovered.size(), end);
+    }
+
+    /**
+     * 로그를 blockRecords건씩 압축 블록으로 추가 (SegmentLogStore의 쓰기 잠금 안에서 호출, 로그에는 id/createdAt이 채워져 있어야 함)
+     */
+    void append(List<SystemLog> systemLogs, int blockRecords, int compressionLevel, boolean fsync) throws IOException {
+        if (dataChannel == null) {
+            dataChannel = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            indexChannel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        Committed current = committed;
+        long dataSize = current.dataSize();
+        int blockCount = (systemLogs.size() + blockRecords - 1) / blockRecords;
+        ByteBuffer entries = ByteBuffer.allocate(blockCount * INDEX_ENTRY_BYTES);
+
+        for (int from = 0; from < systemLogs.size(); from += blockRecords) {
+            List<SystemLog> part = systemLogs.subList(from, Math.min(from + blockRecords, systemLogs.size()));
+            ByteBuffer block = encodeBlock(part, compressionLevel);
+            int length = block.remaining();
+            if (dataSize + length > MAX_DATA_BYTES) {
+                throw new IOException("로그 세그먼트 " + name + " 크기 한도(2GB) 초과 - app.log-store.segment.duration을 줄이세요");
+            }
+            // 이전에 실패한 쓰기가 남긴 부분은 커밋된 위치부터 덮어씀
+            writeFully(dataChannel, block, dataSize);
+            putEntry(entries, summarize(part, dataSize, length));
+            dataSize += length;
+        }
+        if (fsync) {
+            dataChannel.force(false);
+        }
+        entries.flip();
+        writeFully(indexChannel, entries, (long) current.blocks() * INDEX_ENTRY_BYTES);
+        if (fsync) {
+            indexChannel.force(false);
+        }
+        committed = new Committed(current.blocks() + blockCount, dataSize);
+    }
+
+    /**
+     * 커밋된 블록의 인덱스 (인덱스 파일 매핑에서 읽음)
+     */
+    List<Block> blocks() throws IOException {
+        Committed current = committed;
+        if (current.blocks() == 0) {
+            return List.of();
+        }
+        ByteBuffer index = mappedIndex((long) current.blocks() * INDEX_ENTRY_BYTES);
+        List<Block> blocks = new ArrayList<>(current.blocks());
+        for (int i = 0; i < current.blocks(); i++) {
+            blocks.add(readEntry(index, i * INDEX_ENTRY_BYTES));
+        }
+        return blocks;
+    }
+
+    /**
+     * 블록의 로그를 저장 순서대로 읽음 (데이터 파일 매핑에서 압축 해제)
+     */
+    List<SystemLog> readBlock(Block block) throws IOException {
+        return decodeBlock(mappedData(block.offset() + block.length()), block.offset(), block.length());
+    }
+
+    /**
+     * 마지막으로 부여한 로그 ID (ID는 증가하는 순서로 추가되므로 마지막 블록의 최대 ID)
+     */
+    long lastId() throws IOException {
+        List<Block> blocks = blocks();
+        return blocks.isEmpty() ? 0 : blocks.get(blocks.size() - 1).maxId();
+    }
+
+    void closeWriter() {
+        try {
+            if (dataChannel != null) {
+                dataChannel.close();
+            }
+            if (indexChannel != null) {
+                indexChannel.close();
+            }
+        } catch (IOException e) {
+            log.warn("로그 세그먼트 {} 닫기 실패", name, e);
+        } finally {
+            dataChannel = null;
+            indexChannel = null;
+        }
+    }
+
+    /**
+     * 세그먼트 파일 삭제 - 이미 매핑해서 읽고 있는 조회는 매핑이 해제될 때까지 계속 읽을 수 있음
+     */
+    synchronized void delete() throws IOException {
+        closeWriter();
+        dataMap = null;
+        indexMap = null;
+        committed = new Committed(0, 0);
+        Files.deleteIfExists(indexFile);
+        Files.deleteIfExists(dataFile);
+    }
+
+    private synchronized ByteBuffer mappedIndex(long size) throws IOException {
+        if (indexMap == null || indexMap.capacity() < size) {
+            indexMap = map(indexFile, size);
+        }
+        return indexMap;
+    }
+
+    private synchronized ByteBuffer mappedData(long size) throws IOException {
+        if (dataMap == null || dataMap.capacity() < size) {
+            long dataSize = committed.dataSize();
+            if (dataSize < size) {
+                throw new IOException("로그 세그먼트 " + name + "이(가) 삭제되었습니다");
+            }
+            dataMap = map(dataFile, dataSize);
+        }
+        return dataMap;
+    }
+
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    // ===== 블록 인코딩 =====
+
+    private static ByteBuffer encodeBlock(List<SystemLog> systemLogs, int compressionLevel) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(systemLogs.size() * 256);
+        DataOutputStream out = new DataOutputStream(raw);
+        for (SystemLog systemLog : systemLogs) {
+            out.writeLong(systemLog.getId());
+            out.writeLong(toMillis(systemLog.getCreatedAt()));
+            writeString(out, systemLog.getLevel());
+            writeString(out, systemLog.getUsername());
+            writeString(out, systemLog.getAction());
+            writeString(out, systemLog.getMessage());
+            writeString(out, systemLog.getIpAddress());
+            writeString(out, systemLog.getUserAgent());
+            writeString(out, systemLog.getDetails());
+        }
+        byte[] rawBytes = raw.toByteArray();
+
+        Deflater deflater = new Deflater(compressionLevel);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(rawBytes.length / 4 + 64);
+        try {
+            deflater.setInput(rawBytes);
+            deflater.finish();
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                compressed.write(buffer, 0, n);
+            }
+        } finally {
+            deflater.end();
+        }
+        byte[] compressedBytes = compressed.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(compressedBytes);
+
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_BYTES + compressedBytes.length);
+        block.putInt(BLOCK_MAGIC)
+                .putInt(rawBytes.length)
+                .putInt(compressedBytes.length)
+                .putInt((int) crc.getValue())
+                .put(compressedBytes)
+                .flip();
+        return block;
+    }
+
+    /**
+     * offset 위치 블록의 전체 길이 (헤더가 올바르지 않거나 파일 끝을 넘으면 -1)
+     */
+    private static int blockLength(ByteBuffer data, long offset, long dataSize) {
+        if (offset + BLOCK_HEADER_BYTES > dataSize || data.getInt((int) offset) != BLOCK_MAGIC) {
+            return -1;
+        }
+        int compressedLength = data.getInt((int) offset + 8);
+        if (compressedLength < 0 || offset + BLOCK_HEADER_BYTES + compressedLength > dataSize) {
+            return -1;
+        }
+        return BLOCK_HEADER_BYTES + compressedLength;
+    }
+
+    private List<SystemLog> decodeBlock(ByteBuffer data, long offset, int length) throws IOException {
+        int position = (int) offset;
+        if (data.getInt(position) != BLOCK_MAGIC) {
+            throw new IOException("로그 세그먼트 " + name + " 블록 헤더 오류 (offset " + offset + ")");
+        }
+        int rawLength = data.getInt(position + 4);
+        int compressedLength = data.getInt(position + 8);
+        int expectedCrc = data.getInt(position + 12);
+        ByteBuffer compressed = data.slice(position + BLOCK_HEADER_BYTES, length - BLOCK_HEADER_BYTES);
+        if (rawLength < 0 || compressedLength != compressed.remaining()) {
+            throw new IOException("로그 세그먼트 " + name + " 블록 길이 오류 (offset " + offset + ")");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(compressed.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("로그 세그먼트 " + name + " 블록 CRC 불일치 (offset " + offset + ")");
+        }
+
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, inflated, rawLength - inflated);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += n;
+            }
+            if (inflated != rawLength) {
+                throw new IOException("로그 세그먼트 " + name + " 블록 압축 해제 오류 (offset " + offset + ")");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("로그 세그먼트 " + name + " 블록 압축 해제 오류 (offset " + offset + ")", e);
+        } finally {
+            inflater.end();
+        }
+
+        List<SystemLog> systemLogs = new ArrayList<>();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        while (in.available() > 0) {
+            systemLogs.add(SystemLog.builder()
+                    .id(in.readLong())
+                    .createdAt(toDateTime(in.readLong()))
+                    .level(readString(in))
+                    .username(readString(in))
+                    .action(readString(in))
+                    .message(readString(in))
+                    .ipAddress(readString(in))
+                    .userAgent(readString(in))
+                    .details(readString(in))
+                    .build());
+        }
+        return systemLogs;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ===== 인덱스 항목 =====
+
+    private static Block summarize(List<SystemLog> systemLogs, long offset, int length) {
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        int info = 0;
+        int warning = 0;
+        int error = 0;
+        for (SystemLog systemLog : systemLogs) {
+            long time = toMillis(systemLog.getCreatedAt());
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+            minId = Math.min(minId, systemLog.getId());
+            maxId = Math.max(maxId, systemLog.getId());
+            String level = systemLog.getLevel();
+            if ("INFO".equalsIgnoreCase(level)) {
+                info++;
+            } else if ("WARNING".equalsIgnoreCase(level)) {
+                warning++;
+            } else if ("ERROR".equalsIgnoreCase(level)) {
+                error++;
+            }
+        }
+        return new Block(offset, length, systemLogs.size(), minTime, maxTime, minId, maxId, info, warning, error);
+    }
+
+    private static void putEntry(ByteBuffer buffer, Block block) {
+        buffer.putLong(block.offset())
+                .putInt(block.length())
+                .putInt(block.count())
+                .putLong(block.minTime())
+                .putLong(block.maxTime())
+                .putLong(block.minId())
+                .putLong(block.maxId())
+                .putInt(block.info())
+                .putInt(block.warning())
+                .putInt(block.error())
+                .putInt(0);
+    }
+
+    private static Block readEntry(ByteBuffer buffer, int position) {
+        return new Block(
+                buffer.getLong(position),
+                buffer.getInt(position + 8),
+                buffer.getInt(position + 12),
+                buffer.getLong(position + 16),
+                buffer.getLong(position + 24),
+                buffer.getLong(position + 32),
+                buffer.getLong(position + 40),
+                buffer.getInt(position + 48),
+                buffer.getInt(position + 52),
+                buffer.getInt(position + 56));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, offset);
+            if (n < 0) {
+                break;
+            }
+            offset += n;
+        }
+    }
+}
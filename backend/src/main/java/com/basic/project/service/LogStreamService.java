@@ -0,0 +1,296 @@
+package com.basic.project.service;
+
+import com.basic.project.domain.SystemLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 로그 스트림 (Server-Sent Events)
+ * AuditLogWriter가 저장을 마친 로그를 한 번 받아 구독자별 조건(level, username, action)에 맞는 것만 구독자 버퍼에 넣음 (DB 조회 없음)
+ * - 구독자마다 크기가 제한된 버퍼(buffer-size)를 두고, 전송이 밀려 버퍼가 차면 가장 오래된 로그를 버린 뒤 다음 전송 때 dropped 이벤트로 알림
+ * - 전송은 구독자마다 한 번에 하나씩 logStreamExecutor에서 실행하므로 느린 구독자가 로그 저장이나 다른 구독자를 막지 않음
+ * - 연결은 timeout-ms가 지나면 종료되므로 클라이언트가 다시 연결
+ * - 최근 로그(replay-size건)를 전송 순서대로 보관해 두고, 재연결 시 마지막 이벤트 ID(Last-Event-ID) 이후 로그를 먼저 다시 보냄
+ *   (ID가 보관 범위를 벗어났거나 다른 인스턴스에서 받은 ID면 connected 이벤트의 resumed=false - 클라이언트가 검색 API로 보충)
+ */
+@Slf4j
+@Service
+public class LogStreamService {
+
+    // 한 번의 전송 작업에서 보내는 최대 이벤트 수 (나머지는 다시 제출해 실행기 스레드를 양보)
+    private static final int MAX_EVENTS_PER_DRAIN = 500;
+
+    private final TaskExecutor logStreamExecutor;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 재연결 시 다시 보낼 최근 로그 (publish 순서, 구독자 등록/배분과 같은 잠금 사용)
+    private final Deque<SystemLog> recentLogs = new ArrayDeque<>();
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final int replaySize;
+    private final long timeoutMs;
+
+    private final Counter sentEvents;
+    private final Counter droppedEvents;
+
+    public LogStreamService(
+            @Qualifier("logStreamExecutor") TaskExecutor logStreamExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.log-stream.max-subscribers:100}") int maxSubscribers,
+            @Value("${app.log-stream.buffer-size:1000}") int bufferSize,
+            @Value("${app.log-stream.replay-size:1000}") int replaySize,
+            @Value("${app.log-stream.timeout-ms:600000}") long timeoutMs) {
+        this.logStreamExecutor = logStreamExecutor;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMs = timeoutMs;
+
+        Gauge.builder("log.stream.subscribers", subscribers, Set::size)
+                .description("실시간 로그 스트림 구독자 수")
+                .register(meterRegistry);
+        this.sentEvents = Counter.builder("log.stream.sent")
+                .description("구독자에게 전송한 로그 수")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("log.stream.dropped")
+                .description("구독자 버퍼가 가득 차 버린 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 시작 - 조건이 비어 있으면 해당 조건은 적용하지 않음 (username, action은 부분 일치)
+     * @param lastEventId 재연결 시 마지막으로 받은 로그 ID (없으면 새 로그부터)
+     * @throws IllegalStateException 구독자 수 한도 초과
+     */
+    public SseEmitter subscribe(String level, String username, String action, Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("실시간 로그 구독자가 많습니다 (최대 " + maxSubscribers + "명). 잠시 후 다시 시도하세요");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, level, username, action, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 다시 보낼 로그를 버퍼에 넣고 등록할 때까지 새 로그 배분을 막아 빠지거나 중복되는 로그가 없도록 함
+        boolean resumed;
+        synchronized (recentLogs) {
+            resumed = lastEventId != null && replay(subscriber, lastEventId);
+            // 프록시/클라이언트가 바로 연결을 확인할 수 있도록 첫 이벤트 전송 (응답 시작 전이므로 버퍼에만 기록됨)
+            try {
+                emitter.send(SseEmitter.event().name("connected")
+                        .data(Map.of("timeoutMs", timeoutMs, "resumed", resumed)));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            subscribers.add(subscriber);
+        }
+        if (!subscriber.buffer.isEmpty()) {
+            schedule(subscriber);
+        }
+        log.debug("실시간 로그 구독 시작 (구독자 {}명, level={}, username={}, action={}, lastEventId={}, resumed={})",
+                subscribers.size(), level, username, action, lastEventId, resumed);
+        return emitter;
+    }
+
+    /**
+     * 저장된 로그를 조건에 맞는 구독자 버퍼에 추가하고 전송 예약 (AuditLogWriter에서 호출, 대기하지 않음)
+     */
+    public void publish(List<SystemLog> systemLogs) {
+        if (systemLogs.isEmpty()) {
+            return;
+        }
+        synchronized (recentLogs) {
+            // 구독자가 없어도 보관 (모든 연결이 끊긴 뒤 재연결하는 클라이언트용)
+            for (SystemLog systemLog : systemLogs) {
+                if (replaySize > 0) {
+                    if (recentLogs.size() >= replaySize) {
+                        recentLogs.pollFirst();
+                    }
+                    recentLogs.addLast(systemLog);
+                }
+            }
+            for (Subscriber subscriber : subscribers) {
+                boolean added = false;
+                for (SystemLog systemLog : systemLogs) {
+                    if (subscriber.matches(systemLog)) {
+                        subscriber.offer(systemLog);
+                        added = true;
+                    }
+                }
+                if (added) {
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 하트비트 - 연결이 끊긴 구독자는 전송 실패로 정리되고, 거부되었던 전송도 다시 예약됨
+     */
+    @Scheduled(fixedDelayString = "${app.log-stream.heartbeat-interval-ms:15000}",
+               initialDelayString = "${app.log-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatPending.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 종료 시 열린 연결을 모두 닫음 (웹 서버 종료가 스트림 연결을 기다리지 않도록)
+     */
+    @PreDestroy
+    public void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * 보관 중인 로그에서 lastEventId를 찾아 그 뒤에 전송된 로그 중 조건에 맞는 것을 구독자 버퍼에 추가 (recentLogs 잠금 안에서 호출)
+     * @return lastEventId를 찾았으면 true
+     */
+    private boolean replay(Subscriber subscriber, long lastEventId) {
+        boolean found = false;
+        for (SystemLog systemLog : recentLogs) {
+            if (found) {
+                if (subscriber.matches(systemLog)) {
+                    subscriber.offer(systemLog);
+                }
+            } else if (systemLog.getId() != null && systemLog.getId() == lastEventId) {
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            logStreamExecutor.execute(() -> drain(subscriber));
+        } catch (TaskRejectedException e) {
+            // 버퍼에 남겨 두고 다음 로그/하트비트 때 다시 제출
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter;
+        try {
+            long dropped = subscriber.dropped.getAndSet(0);
+            if (dropped > 0) {
+                emitter.send(SseEmitter.event().name("dropped").data(Map.of("count", dropped)));
+            }
+            int sent = 0;
+            SystemLog systemLog;
+            while (sent < MAX_EVENTS_PER_DRAIN && (systemLog = subscriber.buffer.poll()) != null) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event().name("log").data(systemLog, MediaType.APPLICATION_JSON);
+                if (systemLog.getId() != null) {
+                    event.id(String.valueOf(systemLog.getId()));
+                }
+                emitter.send(event);
+                sent++;
+            }
+            sentEvents.increment(sent);
+            if (subscriber.heartbeatPending.getAndSet(false) && sent == 0) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 또는 이미 완료된 연결
+            log.debug("실시간 로그 구독 종료: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 전송 중에 추가된 로그가 있으면 이어서 전송
+        if (!subscriber.buffer.isEmpty() || subscriber.dropped.get() > 0) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 구독자 - 조건, 전송 대기 버퍼, 전송 중 여부
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String level;
+        private final String username;
+        private final String action;
+        private final BlockingQueue<SystemLog> buffer;
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, String level, String username, String action, int bufferSize) {
+            this.emitter = emitter;
+            this.level = level == null || level.isBlank() ? null : level.trim();
+            this.username = lowerCase(username);
+            this.action = lowerCase(action);
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean matches(SystemLog systemLog) {
+            return (level == null || level.equalsIgnoreCase(systemLog.getLevel()))
+                    && contains(systemLog.getUsername(), username)
+                    && contains(systemLog.getAction(), action);
+        }
+
+        /**
+         * 버퍼가 가득 차면 가장 오래된 로그를 버리고 추가
+         */
+        private void offer(SystemLog systemLog) {
+            while (!buffer.offer(systemLog)) {
+                if (buffer.poll() != null) {
+                    dropped.incrementAndGet();
+                    droppedEvents.increment();
+                }
+            }
+        }
+
+        private static boolean contains(String value, String lowerCaseTerm) {
+            return lowerCaseTerm == null || (value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseTerm));
+        }
+
+        private static String lowerCase(String value) {
+            return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
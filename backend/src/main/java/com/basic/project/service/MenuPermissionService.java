@@ -1,22 +1,34 @@
 package com.basic.project.service;
 
-import com.basic.project.domain.Menu;
-import com.basic.project.domain.RoleMenu;
 import com.basic.project.domain.User;
+import com.basic.project.dto.EffectiveMenuPermission;
 import com.basic.project.mapper.MenuMapper;
 import com.basic.project.mapper.RoleMenuMapper;
 import com.basic.project.mapper.UserMapper;
 import com.basic.project.enums.MenuCode;
+import com.basic.project.enums.PermissionBits;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @Service
@@ -26,7 +38,13 @@ public class MenuPermissionService {
     private final UserMapper userMapper;
     private final MenuMapper menuMapper;
     private final RoleMenuMapper roleMenuMapper;
+    private final PermissionMatrixService permissionMatrixService;
+    private final MeterRegistry meterRegistry;
     
+    private static final String ROLE_PREFIX = "ROLE_";
+    
+    // 요청 단위 유효 권한 메모 속성 키
+    private static final String PERMISSION_MEMO_ATTRIBUTE = "permission.effective.memo";
     private static final String MENU_MAPPING_NOT_FOUND_MESSAGE = "메뉴 매핑을 찾을 수 없습니다";
     private static final String LOG_FORMAT_MESSAGE_WITH_PATH = "{}: {}";
     
@@ -126,24 +144,21 @@ public class MenuPermissionService {
      * 현재 로그인한 사용자가 특정 메뉴에 대한 읽기 권한이 있는지 확인
      */
     public boolean hasReadPermission(String menuCode) {
-        String username = getCurrentUsername();
-        return username != null && hasReadPermission(username, menuCode);
+        return hasCurrentUserPermission(menuCode, PermissionBits.READ);
     }
     
     /**
      * 현재 로그인한 사용자가 특정 메뉴에 대한 쓰기 권한이 있는지 확인
      */
     public boolean hasWritePermission(String menuCode) {
-        String username = getCurrentUsername();
-        return username != null && hasWritePermission(username, menuCode);
+        return hasCurrentUserPermission(menuCode, PermissionBits.WRITE);
     }
     
     /**
      * 현재 로그인한 사용자가 특정 메뉴에 대한 삭제 권한이 있는지 확인
      */
     public boolean hasDeletePermission(String menuCode) {
-        String username = getCurrentUsername();
-        return username != null && hasDeletePermission(username, menuCode);
+        return hasCurrentUserPermission(menuCode, PermissionBits.DELETE);
     }
     
     // ===== 간결한 헬퍼 메서드들 =====
@@ -311,39 +326,85 @@ public class MenuPermissionService {
     
     
     /**
-     * 현재 로그인한 사용자의 사용자명 반환
+     * 현재 로그인한 사용자의 권한 확인 - 인증 정보의 역할로 판단하므로 DB 조회 없음
      */
-    private String getCurrentUsername() {
+    private boolean hasCurrentUserPermission(String menuCode, int requiredBits) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return PermissionBits.covers(getPermissionBits(authentication, menuCode), requiredBits);
+    }
+    
+    /**
+     * 인증 정보의 역할 기준으로 메뉴별 유효 권한 비트 계산
+     * MenuPermissionAuthorizationManager에서 요구 권한 비트와 비교하는 데 사용
+     */
+    public int getPermissionBits(Authentication authentication, String menuCode) {
         if (authentication == null || !authentication.isAuthenticated()) {
-            return null;
+            return PermissionBits.NONE;
+        }
+        try {
+            return resolvePermissionBits(authentication.getName(), menuCode, () -> getRoleNames(authentication));
+            
+        } catch (Exception e) {
+            log.error("권한 비트 계산 중 오류 발생: username={}, menuCode={}", authentication.getName(), menuCode, e);
+            return PermissionBits.NONE;
         }
-        return authentication.getName();
     }
     
     /**
-     * 권한 확인 공통 메서드
+     * 여러 메뉴의 권한 비트를 한 번에 조회 (메뉴 렌더링용 일괄 확인)
+     * 유효 권한은 한 번만 계산되며, 권한 매트릭스가 적재된 경우 DB 조회가 없고 콜드 상태에서도 쿼리 1회
      */
-    private boolean hasPermission(String username, String menuCode, String permissionType) {
+    public Map<String, Integer> getPermissionBitsByMenuCodes(Authentication authentication, Collection<String> menuCodes) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (menuCodes == null || menuCodes.isEmpty()) {
+            return result;
+        }
+        EffectivePermissions permissions = getEffectivePermissions(authentication);
+        for (String menuCode : menuCodes) {
+            result.put(menuCode, permissions != null ? permissions.bits(menuCode, this::getMenuNameFromCode) : PermissionBits.NONE);
+        }
+        return result;
+    }
+    
+    /**
+     * 여러 메뉴 ID의 권한 비트를 한 번에 조회 (메뉴 렌더링용 일괄 확인)
+     */
+    public Map<Long, Integer> getPermissionBitsByMenuIds(Authentication authentication, Collection<Long> menuIds) {
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        if (menuIds == null || menuIds.isEmpty()) {
+            return result;
+        }
+        EffectivePermissions permissions = getEffectivePermissions(authentication);
+        for (Long menuId : menuIds) {
+            result.put(menuId, permissions != null ? permissions.bitsById(menuId) : PermissionBits.NONE);
+        }
+        return result;
+    }
+    
+    /**
+     * 사용자명 기준으로 메뉴별 유효 권한 비트 계산
+     */
+    public int getPermissionBits(String username, String menuCode) {
         try {
-            log.debug("권한 확인 시작: username={}, menuCode={}, permissionType={}", username, menuCode, permissionType);
-            
-            var user = validateAndGetUser(username);
-            if (user == null) return false;
-            
-            var userRoles = validateAndGetUserRoles(user.getId(), username);
-            if (userRoles.isEmpty()) return false;
-            
-            var menu = findMenuByCodeOrName(menuCode);
-            if (menu == null) return false;
-            
-            return checkRolePermissions(userRoles, menu, permissionType);
+            return resolvePermissionBits(username, menuCode, () -> loadUserRoles(username));
             
         } catch (Exception e) {
-            log.error("권한 확인 중 오류 발생: username={}, menuCode={}, permissionType={}", 
-                     username, menuCode, permissionType, e);
+            log.error("권한 비트 계산 중 오류 발생: username={}, menuCode={}", username, menuCode, e);
+            return PermissionBits.NONE;
+        }
+    }
+    
+    /**
+     * 권한 확인 공통 메서드
+     */
+    private boolean hasPermission(String username, String menuCode, String permissionType) {
+        log.debug("권한 확인 시작: username={}, menuCode={}, permissionType={}", username, menuCode, permissionType);
+        int requiredBits = toPermissionBits(permissionType);
+        if (requiredBits == PermissionBits.NONE) {
+            log.warn("알 수 없는 권한 타입: {}", permissionType);
             return false;
         }
+        return PermissionBits.covers(getPermissionBits(username, menuCode), requiredBits);
     }
     
     private User validateAndGetUser(String username) {
@@ -367,71 +428,118 @@ public class MenuPermissionService {
         return userRoles;
     }
     
-    private Menu findMenuByCodeOrName(String menuCode) {
-        var menu = menuMapper.findByMenuCode(menuCode);
-        if (menu == null) {
-            String menuName = getMenuNameFromCode(menuCode);
-            menu = menuMapper.findByMenuName(menuName);
-            if (menu == null) {
-                log.warn("메뉴를 찾을 수 없습니다: code={}, name={}", menuCode, menuName);
-                return null;
+    private List<String> getRoleNames(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .toList();
+    }
+    
+    private List<String> loadUserRoles(String username) {
+        var user = validateAndGetUser(username);
+        if (user == null) return Collections.emptyList();
+        return validateAndGetUserRoles(user.getId(), username);
+    }
+    
+    /**
+     * 메뉴별 유효 권한 비트 계산
+     * - 권한 매트릭스가 적재된 경우: 역할 목록으로 매트릭스에서 계산 (역할 외 DB 조회 없음)
+     * - 적재 전(콜드 상태)인 경우: 유효 권한 단일 쿼리로 조회
+     * 요청 처리 중에는 사용자별 유효 권한을 한 번만 계산하여 이후 확인에서 재사용
+     */
+    private int resolvePermissionBits(String username, String menuCode, Supplier<Collection<String>> roleLoader) {
+        PermissionMemo memo = getRequestPermissionMemo();
+        if (memo == null) {
+            PermissionMatrix matrix = permissionMatrixService.getLoadedMatrix();
+            if (matrix == null) {
+                return querySinglePermissionBits(username, menuCode);
             }
-            log.debug("메뉴명으로 조회 성공: menuName={}", menuName);
+            return resolveEffectivePermissions(username, matrix, roleLoader).bits(menuCode, this::getMenuNameFromCode);
         }
-        log.debug("메뉴 조회 성공: menuId={}, menuName={}", menu.getId(), menu.getMenuName());
-        return menu;
-    }
-    
-    private boolean checkRolePermissions(List<String> userRoles, Menu menu, String permissionType) {
-        for (String roleName : userRoles) {
-            var role = userMapper.findRoleByName(roleName);
-            if (role != null) {
-                log.debug("역할 조회 성공: roleId={}, roleName={}", role.getId(), role.getRoleName());
-                var roleMenuOpt = roleMenuMapper.findByRoleIdAndMenuId(role.getId(), menu.getId());
-                if (roleMenuOpt.isPresent()) {
-                    var roleMenu = roleMenuOpt.get();
-                    log.debug("역할-메뉴 권한 조회 성공: canRead={}, canWrite={}, canDelete={}", 
-                            roleMenu.getCanRead(), roleMenu.getCanWrite(), roleMenu.getCanDelete());
-                    if (evaluatePermissionType(roleMenu, permissionType)) {
-                        return true;
-                    }
-                } else {
-                    log.debug("역할-메뉴 권한 매핑이 없습니다: roleId={}, menuId={}", role.getId(), menu.getId());
-                }
-            } else {
-                log.debug("역할을 찾을 수 없습니다: {}", roleName);
-            }
+        
+        return getEffectivePermissions(memo, username, roleLoader).bits(menuCode, this::getMenuNameFromCode);
+    }
+    
+    private EffectivePermissions getEffectivePermissions(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        Supplier<Collection<String>> roleLoader = () -> getRoleNames(authentication);
+        PermissionMemo memo = getRequestPermissionMemo();
+        if (memo == null) {
+            return resolveEffectivePermissions(authentication.getName(), permissionMatrixService.getLoadedMatrix(), roleLoader);
+        }
+        return getEffectivePermissions(memo, authentication.getName(), roleLoader);
+    }
+    
+    private EffectivePermissions getEffectivePermissions(PermissionMemo memo, String username,
+                                                         Supplier<Collection<String>> roleLoader) {
+        return memo.permissionsByUsername().computeIfAbsent(username, key -> {
+            memo.resolutions().incrementAndGet();
+            return resolveEffectivePermissions(username, permissionMatrixService.getLoadedMatrix(), roleLoader);
+        });
+    }
+    
+    private EffectivePermissions resolveEffectivePermissions(String username, PermissionMatrix matrix,
+                                                             Supplier<Collection<String>> roleLoader) {
+        meterRegistry.counter("permission.resolutions").increment();
+        if (matrix != null) {
+            return new MatrixPermissions(matrix, matrix.effectiveBits(roleLoader.get()));
+        }
+        return QueriedPermissions.from(roleMenuMapper.findEffectivePermissionsByUsername(username));
+    }
+    
+    private int querySinglePermissionBits(String username, String menuCode) {
+        if (menuCode == null) {
+            return PermissionBits.NONE;
+        }
+        meterRegistry.counter("permission.resolutions").increment();
+        EffectiveMenuPermission permission = roleMenuMapper.findEffectivePermission(
+                username, menuCode, getMenuNameFromCode(menuCode));
+        return permission != null ? toPermissionBits(permission) : PermissionBits.NONE;
+    }
+    
+    private static int toPermissionBits(EffectiveMenuPermission permission) {
+        return PermissionBits.of(permission.getCanRead(), permission.getCanWrite(), permission.getCanDelete());
+    }
+    
+    /**
+     * 현재 요청의 권한 메모 조회 (요청 범위 밖이면 null)
+     * 요청 종료 시 해당 요청에서 수행한 권한 계산 횟수를 메트릭으로 기록
+     */
+    private PermissionMemo getRequestPermissionMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
         }
         
-        log.debug("권한 확인 실패: 모든 역할에 대해 권한이 없습니다");
-        return false;
+        PermissionMemo memo = (PermissionMemo) attributes.getAttribute(PERMISSION_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            PermissionMemo newMemo = new PermissionMemo(new ConcurrentHashMap<>(), new AtomicInteger());
+            attributes.setAttribute(PERMISSION_MEMO_ATTRIBUTE, newMemo, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(PERMISSION_MEMO_ATTRIBUTE,
+                    () -> DistributionSummary.builder("permission.resolutions.per.request")
+                            .description("Effective permission resolutions performed per request")
+                            .register(meterRegistry)
+                            .record(newMemo.resolutions().get()),
+                    RequestAttributes.SCOPE_REQUEST);
+            memo = newMemo;
+        }
+        return memo;
     }
     
-    private boolean evaluatePermissionType(RoleMenu roleMenu, String permissionType) {
+    private int toPermissionBits(String permissionType) {
         switch (permissionType) {
             case "read":
-                if (Boolean.TRUE.equals(roleMenu.getCanRead())) {
-                    log.debug("읽기 권한 허용");
-                    return true;
-                }
-                break;
+                return PermissionBits.READ;
             case "write":
-                if (Boolean.TRUE.equals(roleMenu.getCanWrite())) {
-                    log.debug("쓰기 권한 허용");
-                    return true;
-                }
-                break;
+                return PermissionBits.WRITE;
             case "delete":
-                if (Boolean.TRUE.equals(roleMenu.getCanDelete())) {
-                    log.debug("삭제 권한 허용");
-                    return true;
-                }
-                break;
+                return PermissionBits.DELETE;
             default:
-                log.warn("알 수 없는 권한 타입: {}", permissionType);
-                return false;
+                return PermissionBits.NONE;
         }
-        return false;
     }
     
     /**
@@ -500,4 +608,84 @@ public class MenuPermissionService {
             return List.of();
         }
     }
+    
+    /**
+     * 사용자의 메뉴별 유효 권한 (메뉴 코드로 찾지 못하면 메뉴명으로 조회)
+     */
+    private interface EffectivePermissions {
+        
+        int bits(String menuCode, UnaryOperator<String> menuNameResolver);
+        
+        int bitsById(Long menuId);
+    }
+    
+    /**
+     * 특정 권한 매트릭스 스냅샷 기준으로 계산된 유효 권한
+     */
+    private record MatrixPermissions(PermissionMatrix matrix, byte[] menuBits) implements EffectivePermissions {
+        
+        @Override
+        public int bits(String menuCode, UnaryOperator<String> menuNameResolver) {
+            int menuIndex = matrix.findMenuIndexByCode(menuCode);
+            if (menuIndex == PermissionMatrix.NOT_FOUND && menuCode != null) {
+                menuIndex = matrix.findMenuIndexByName(menuNameResolver.apply(menuCode));
+            }
+            return bitsAt(menuIndex);
+        }
+        
+        @Override
+        public int bitsById(Long menuId) {
+            return bitsAt(matrix.findMenuIndexById(menuId));
+        }
+        
+        private int bitsAt(int menuIndex) {
+            return menuIndex == PermissionMatrix.NOT_FOUND ? PermissionBits.NONE : menuBits[menuIndex];
+        }
+    }
+    
+    /**
+     * 유효 권한 집계 쿼리 결과 기준의 유효 권한 (권한 매트릭스 적재 전 사용)
+     */
+    private record QueriedPermissions(Map<Long, Integer> bitsByMenuId,
+                                      Map<String, Integer> bitsByMenuCode,
+                                      Map<String, Integer> bitsByMenuName) implements EffectivePermissions {
+        
+        static QueriedPermissions from(List<EffectiveMenuPermission> permissions) {
+            Map<Long, Integer> bitsByMenuId = new HashMap<>();
+            Map<String, Integer> bitsByMenuCode = new HashMap<>();
+            Map<String, Integer> bitsByMenuName = new HashMap<>();
+            for (EffectiveMenuPermission permission : permissions) {
+                int bits = toPermissionBits(permission);
+                bitsByMenuId.put(permission.getMenuId(), bits);
+                if (permission.getMenuCode() != null) {
+                    bitsByMenuCode.put(permission.getMenuCode(), bits);
+                }
+                if (permission.getMenuName() != null) {
+                    bitsByMenuName.put(permission.getMenuName(), bits);
+                }
+            }
+            return new QueriedPermissions(bitsByMenuId, bitsByMenuCode, bitsByMenuName);
+        }
+        
+        @Override
+        public int bits(String menuCode, UnaryOperator<String> menuNameResolver) {
+            Integer bits = bitsByMenuCode.get(menuCode);
+            if (bits == null && menuCode != null) {
+                bits = bitsByMenuName.get(menuNameResolver.apply(menuCode));
+            }
+            return bits != null ? bits : PermissionBits.NONE;
+        }
+        
+        @Override
+        public int bitsById(Long menuId) {
+            return bitsByMenuId.getOrDefault(menuId, PermissionBits.NONE);
+        }
+    }
+    
+    /**
+     * 요청 단위 권한 메모 (사용자명별 유효 권한, 계산 횟수)
+     */
+    private record PermissionMemo(ConcurrentMap<String, EffectivePermissions> permissionsByUsername,
+                                  AtomicInteger resolutions) {
+    }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.basic.project.service;
 
 import com.basic.project.domain.Menu;
+import com.basic.project.dto.CursorPageResponse;
+import com.basic.project.dto.PageCursor;
 import com.basic.project.mapper.MenuMapper;
+import com.basic.project.mapper.RoleMenuMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,22 +21,27 @@ import java.util.NoSuchElementException;
 public class MenuService {
     
     private final MenuMapper menuMapper;
+    private final PermissionMatrixService permissionMatrixService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final RoleMenuMapper roleMenuMapper;
+    private final DashboardCounterService dashboardCounterService;
     
-    @Cacheable(value = "menus", key = "'all'")
+    @Cacheable(value = "menus", key = "'all'", sync = true)
     public List<Menu> getAllMenus() {
         return menuMapper.findAll();
     }
     
-    @Cacheable(value = "menuTree", key = "'tree'")
+    @Cacheable(value = "menuTree", key = "'tree'", sync = true)
     public List<Menu> getMenuTree() {
         List<Menu> allMenus = menuMapper.findAll();
         return buildMenuTree(allMenus);
     }
     
-    @Cacheable(value = "menus", key = "'user_' + #userId")
+    @Cacheable(value = "menus", key = "'user_' + #userId", sync = true)
     public List<Menu> getUserMenus(Long userId) {
-        List<Menu> userMenus = menuMapper.findByUserId(userId);
-        return buildMenuTree(userMenus);
+        List<Menu> userMenus = buildMenuTree(menuMapper.findByUserId(userId));
+        cacheInvalidationService.trackMenuTree("menus", "user_" + userId, userMenus);
+        return userMenus;
     }
     
     public Optional<Menu> getMenuById(Long id) {
@@ -50,7 +57,6 @@ public class MenuService {
     }
     
     @Transactional
-    @CacheEvict(value = {"menus", "menuTree"}, allEntries = true)
     public Menu createMenu(Menu menu) {
         log.info("Creating new menu: {}", menu.getMenuName());
         
@@ -69,11 +75,13 @@ public class MenuService {
         
         menuMapper.insert(menu);
         log.info("Menu created with ID: {}", menu.getId());
+        dashboardCounterService.menuCreated(Boolean.TRUE.equals(menu.getIsVisible()));
+        cacheInvalidationService.invalidateMenu(null);
+        permissionMatrixService.reloadAfterCommit();
         return menu;
     }
     
     @Transactional
-    @CacheEvict(value = {"menus", "menuTree"}, allEntries = true)
     public Menu updateMenu(Menu menu) {
         log.info("Updating menu: {}", menu.getId());
         
@@ -84,11 +92,14 @@ public class MenuService {
         
         menuMapper.update(menu);
         log.info("Menu updated: {}", menu.getId());
+        dashboardCounterService.menuVisibilityChanged(
+                Boolean.TRUE.equals(existingMenu.get().getIsVisible()), Boolean.TRUE.equals(menu.getIsVisible()));
+        cacheInvalidationService.invalidateMenu(menu.getId());
+        permissionMatrixService.reloadAfterCommit();
         return menu;
     }
     
     @Transactional
-    @CacheEvict(value = {"menus", "menuTree"}, allEntries = true)
     public void deleteMenu(Long id) {
         log.info("Deleting menu: {}", id);
         
@@ -97,25 +108,33 @@ public class MenuService {
             throw new IllegalStateException("Cannot delete menu with children. Delete children first.");
         }
         
+        // 권한 정보가 함께 삭제되기 전에 영향받는 캐시 항목과 권한 수를 확정
+        cacheInvalidationService.invalidateMenu(id);
+        Optional<Menu> menu = menuMapper.findById(id);
+        int cascadedPermissions = roleMenuMapper.findRoleIdsByMenuId(id).size();
         menuMapper.delete(id);
         log.info("Menu deleted: {}", id);
+        menu.ifPresent(deleted -> dashboardCounterService.menuDeleted(
+                Boolean.TRUE.equals(deleted.getIsVisible()), cascadedPermissions));
+        permissionMatrixService.reloadAfterCommit();
     }
     
     @Transactional
-    @CacheEvict(value = {"menus", "menuTree"}, allEntries = true)
     public void updateMenuOrder(Long id, Integer newOrder) {
         log.info("Updating menu order: {} to {}", id, newOrder);
         menuMapper.updateSortOrder(id, newOrder);
+        cacheInvalidationService.invalidateMenu(id);
     }
     
     @Transactional
-    @CacheEvict(value = {"menus", "menuTree"}, allEntries = true)
     public void toggleMenuVisibility(Long id) {
         Optional<Menu> menu = menuMapper.findById(id);
         if (menu.isPresent()) {
             boolean newVisibility = !menu.get().getIsVisible();
             menuMapper.updateVisibility(id, newVisibility);
+            dashboardCounterService.menuVisibilityChanged(!newVisibility, newVisibility);
             log.info("Menu visibility toggled: {} to {}", id, newVisibility);
+            cacheInvalidationService.invalidateMenu(id);
         }
     }
     
@@ -128,6 +147,17 @@ public class MenuService {
         return menuMapper.findWithPagination(offset, size);
     }
     
+    /**
+     * 커서 페이지네이션 메뉴 조회 - id 오름차순
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     */
+    public CursorPageResponse<Menu> getMenusByCursor(String cursor, int size) {
+        PageCursor.validatePageSize(size);
+        PageCursor after = PageCursor.decode(cursor, 1);
+        List<Menu> rows = menuMapper.findAfterCursor(after != null ? after.getLong(0) : null, size + 1);
+        return CursorPageResponse.of(rows, size, menu -> PageCursor.encode(menu.getId()));
+    }
+    
     public int getTotalMenuCount() {
         return menuMapper.count();
     }
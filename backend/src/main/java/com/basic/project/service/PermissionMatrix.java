@@ -0,0 +1,134 @@
+package com.basic.project.service;
+
+import com.basic.project.dto.RoleMenuPermissionEntry;
+import com.basic.project.enums.PermissionBits;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 역할 × 메뉴 권한 매트릭스 (불변 스냅샷)
+ * 역할과 메뉴를 정수 인덱스로 변환하고, 권한은 byte 배열에 비트 플래그로 저장
+ * 변경 시에는 새 스냅샷을 만들어 통째로 교체하므로 조회 시 동기화가 필요 없음
+ */
+public final class PermissionMatrix {
+
+    public static final int NOT_FOUND = -1;
+
+    private final Map<String, Integer> roleIndex;
+    private final Map<Long, Integer> menuIndexById;
+    private final Map<String, Integer> menuIndexByCode;
+    private final Map<String, Integer> menuIndexByName;
+    private final byte[] bits;
+    private final int menuCount;
+
+    private PermissionMatrix(Map<String, Integer> roleIndex, Map<Long, Integer> menuIndexById,
+                             Map<String, Integer> menuIndexByCode, Map<String, Integer> menuIndexByName,
+                             byte[] bits, int menuCount) {
+        this.roleIndex = roleIndex;
+        this.menuIndexById = menuIndexById;
+        this.menuIndexByCode = menuIndexByCode;
+        this.menuIndexByName = menuIndexByName;
+        this.bits = bits;
+        this.menuCount = menuCount;
+    }
+
+    /**
+     * 역할-메뉴 권한 목록으로 매트릭스 생성
+     */
+    static PermissionMatrix build(List<RoleMenuPermissionEntry> entries) {
+        Map<String, Integer> roleIndex = new HashMap<>();
+        Map<Long, Integer> menuIndexById = new HashMap<>();
+        Map<String, Integer> menuIndexByCode = new HashMap<>();
+        Map<String, Integer> menuIndexByName = new HashMap<>();
+
+        for (RoleMenuPermissionEntry entry : entries) {
+            roleIndex.putIfAbsent(entry.getRoleName(), roleIndex.size());
+            Integer menuIndex = menuIndexById.computeIfAbsent(entry.getMenuId(), id -> menuIndexById.size());
+            if (entry.getMenuCode() != null) {
+                menuIndexByCode.putIfAbsent(entry.getMenuCode(), menuIndex);
+            }
+            if (entry.getMenuName() != null) {
+                menuIndexByName.putIfAbsent(entry.getMenuName(), menuIndex);
+            }
+        }
+
+        int menuCount = menuIndexById.size();
+        byte[] bits = new byte[roleIndex.size() * menuCount];
+        for (RoleMenuPermissionEntry entry : entries) {
+            int cell = roleIndex.get(entry.getRoleName()) * menuCount + menuIndexById.get(entry.getMenuId());
+            bits[cell] |= (byte) PermissionBits.of(entry.getCanRead(), entry.getCanWrite(), entry.getCanDelete());
+        }
+
+        return new PermissionMatrix(Map.copyOf(roleIndex), Map.copyOf(menuIndexById), Map.copyOf(menuIndexByCode),
+                Map.copyOf(menuIndexByName), bits, menuCount);
+    }
+
+    /**
+     * 메뉴 ID로 메뉴 인덱스 조회 (없으면 NOT_FOUND)
+     */
+    public int findMenuIndexById(Long menuId) {
+        return menuId != null ? menuIndexById.getOrDefault(menuId, NOT_FOUND) : NOT_FOUND;
+    }
+
+    /**
+     * 메뉴 코드로 메뉴 인덱스 조회 (없으면 NOT_FOUND)
+     */
+    public int findMenuIndexByCode(String menuCode) {
+        return menuCode != null ? menuIndexByCode.getOrDefault(menuCode, NOT_FOUND) : NOT_FOUND;
+    }
+
+    /**
+     * 메뉴명으로 메뉴 인덱스 조회 (없으면 NOT_FOUND)
+     */
+    public int findMenuIndexByName(String menuName) {
+        return menuName != null ? menuIndexByName.getOrDefault(menuName, NOT_FOUND) : NOT_FOUND;
+    }
+
+    /**
+     * 여러 역할의 권한을 OR로 합산한 유효 권한 비트
+     */
+    public int permissionBits(Collection<String> roleNames, int menuIndex) {
+        if (menuIndex == NOT_FOUND) {
+            return PermissionBits.NONE;
+        }
+        int result = PermissionBits.NONE;
+        for (String roleName : roleNames) {
+            Integer role = roleIndex.get(roleName);
+            if (role != null) {
+                result |= bits[role * menuCount + menuIndex];
+                if (result == PermissionBits.FULL) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 역할의 권한을 메뉴별로 OR 합산한 유효 권한 배열 (인덱스: 메뉴 인덱스)
+     */
+    public byte[] effectiveBits(Collection<String> roleNames) {
+        byte[] result = new byte[menuCount];
+        for (String roleName : roleNames) {
+            Integer role = roleIndex.get(roleName);
+            if (role != null) {
+                int offset = role * menuCount;
+                for (int menu = 0; menu < menuCount; menu++) {
+                    result[menu] |= bits[offset + menu];
+                }
+            }
+        }
+        return result;
+    }
+
+    public int getRoleCount() {
+        return roleIndex.size();
+    }
+
+    public int getMenuCount() {
+        return menuCount;
+    }
+}
@@ -0,0 +1,104 @@
+package com.basic.project.service;
+
+import com.basic.project.mapper.RoleMenuMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 역할 × 메뉴 권한 매트릭스 관리
+ * 애플리케이션 시작 시 role_menus 전체를 한 번에 적재하고,
+ * 권한/역할/메뉴가 변경되면 트랜잭션 커밋 후 새 스냅샷으로 원자적으로 교체
+ * 적재 전(또는 적재 실패 시)에는 호출 측이 단일 쿼리 경로로 권한을 조회
+ * 다시 적재하다 실패하면 변경 전 스냅샷을 버림 (회수된 권한이 남지 않도록 단일 쿼리 경로로 전환 후 일정 간격으로 재시도)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionMatrixService {
+
+    // 트랜잭션당 한 번만 재적재하도록 등록 여부를 표시하는 키
+    private static final Object RELOAD_SYNCHRONIZATION_KEY = new Object();
+
+    // 적재 실패 후 재시도 간격
+    private static final long RETRY_INTERVAL_MS = 30_000;
+
+    private final RoleMenuMapper roleMenuMapper;
+
+    private volatile PermissionMatrix matrix;
+    private volatile long lastLoadAttemptAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * 현재 권한 매트릭스 스냅샷 조회
+     * 아직 적재되지 않았으면 null 반환 (적재 실패 후에는 일정 간격으로 재시도)
+     */
+    public PermissionMatrix getLoadedMatrix() {
+        PermissionMatrix current = matrix;
+        if (current == null && isRetryDue()) {
+            current = retryLoad();
+        }
+        return current;
+    }
+
+    /**
+     * DB에서 권한 매트릭스를 다시 적재하여 교체
+     * @return 적재한 스냅샷 (실패하면 null - 기존 스냅샷도 폐기)
+     */
+    public synchronized PermissionMatrix reload() {
+        lastLoadAttemptAt = System.currentTimeMillis();
+        try {
+            PermissionMatrix loaded = PermissionMatrix.build(roleMenuMapper.findAllPermissionEntries());
+            matrix = loaded;
+            log.debug("권한 매트릭스 적재 완료: roles={}, menus={}", loaded.getRoleCount(), loaded.getMenuCount());
+            return loaded;
+        } catch (Exception e) {
+            // 변경 직후의 적재 실패일 수 있으므로 이전 스냅샷을 계속 쓰지 않음
+            matrix = null;
+            log.error("권한 매트릭스 적재 중 오류 발생 - {}ms 후 재시도할 때까지 단일 쿼리로 권한 조회", RETRY_INTERVAL_MS, e);
+            return null;
+        }
+    }
+
+    private synchronized PermissionMatrix retryLoad() {
+        // 다른 스레드가 먼저 적재했거나 재시도한 경우 다시 적재하지 않음
+        return matrix == null && isRetryDue() ? reload() : matrix;
+    }
+
+    private boolean isRetryDue() {
+        return System.currentTimeMillis() - lastLoadAttemptAt > RETRY_INTERVAL_MS;
+    }
+
+    /**
+     * 권한 데이터 변경 후 호출 - 트랜잭션이 있으면 커밋 후, 없으면 즉시 다시 적재
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(RELOAD_SYNCHRONIZATION_KEY)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(RELOAD_SYNCHRONIZATION_KEY, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RELOAD_SYNCHRONIZATION_KEY);
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+}
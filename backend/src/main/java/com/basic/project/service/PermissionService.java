@@ -1,6 +1,8 @@
 package com.basic.project.service;
 
 import com.basic.project.domain.RoleMenu;
+import com.basic.project.dto.CursorPageResponse;
+import com.basic.project.dto.PageCursor;
 import com.basic.project.mapper.RoleMenuMapper;
 import com.basic.project.mapper.RoleMapper;
 import com.basic.project.mapper.MenuMapper;
@@ -23,6 +25,12 @@ public class PermissionService {
 
     private final MenuMapper menuMapper;
 
+    private final PermissionMatrixService permissionMatrixService;
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    private final DashboardCounterService dashboardCounterService;
+
     public List<RoleMenu> getAllPermissions() {
         return roleMenuMapper.findAll();
     }
@@ -77,7 +85,9 @@ public class PermissionService {
             roleMenu.setCanDelete(false);
         }
 
-        roleMenuMapper.insert(roleMenu);
+        dashboardCounterService.permissionsAdded(roleMenuMapper.insert(roleMenu));
+        cacheInvalidationService.invalidateRolePermissions(List.of(roleMenu.getRoleId()));
+        permissionMatrixService.reloadAfterCommit();
         return roleMenu;
     }
 
@@ -89,6 +99,8 @@ public class PermissionService {
 
         roleMenu.setId(id);
         roleMenuMapper.update(roleMenu);
+        cacheInvalidationService.invalidateRolePermissions(List.of(existingPermission.get().getRoleId()));
+        permissionMatrixService.reloadAfterCommit();
         return roleMenuMapper.findById(id).orElse(null);
     }
 
@@ -97,22 +109,31 @@ public class PermissionService {
         if (permission.isEmpty()) {
             throw new NoSuchElementException("Permission not found");
         }
-        roleMenuMapper.delete(id);
+        dashboardCounterService.permissionsRemoved(roleMenuMapper.delete(id));
+        cacheInvalidationService.invalidateRolePermissions(List.of(permission.get().getRoleId()));
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public void deletePermissionByRoleAndMenu(Long roleId, Long menuId) {
         if (!roleMenuMapper.existsByRoleIdAndMenuId(roleId, menuId)) {
             throw new NoSuchElementException("Permission not found");
         }
-        roleMenuMapper.deleteByRoleIdAndMenuId(roleId, menuId);
+        dashboardCounterService.permissionsRemoved(roleMenuMapper.deleteByRoleIdAndMenuId(roleId, menuId));
+        cacheInvalidationService.invalidateRolePermissions(List.of(roleId));
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public void deletePermissionsByRoleId(Long roleId) {
-        roleMenuMapper.deleteByRoleId(roleId);
+        dashboardCounterService.permissionsRemoved(roleMenuMapper.deleteByRoleId(roleId));
+        cacheInvalidationService.invalidateRolePermissions(List.of(roleId));
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public void deletePermissionsByMenuId(Long menuId) {
-        roleMenuMapper.deleteByMenuId(menuId);
+        // 삭제 전에 메뉴 권한을 가진 역할 조회
+        cacheInvalidationService.invalidateRolePermissions(roleMenuMapper.findRoleIdsByMenuId(menuId));
+        dashboardCounterService.permissionsRemoved(roleMenuMapper.deleteByMenuId(menuId));
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public void batchCreatePermissions(List<RoleMenu> roleMenus) {
@@ -137,11 +158,13 @@ public class PermissionService {
                 roleMenu.setCanDelete(false);
             }
         }
-        roleMenuMapper.batchInsert(roleMenus);
+        dashboardCounterService.permissionsAdded(roleMenuMapper.batchInsert(roleMenus));
+        cacheInvalidationService.invalidateRolePermissions(roleMenus.stream().map(RoleMenu::getRoleId).toList());
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public void batchUpdatePermissionsByRoleId(Long roleId, List<RoleMenu> roleMenus) {
-        roleMenuMapper.batchDeleteByRoleId(roleId);
+        dashboardCounterService.permissionsRemoved(roleMenuMapper.batchDeleteByRoleId(roleId));
         
         for (RoleMenu roleMenu : roleMenus) {
             roleMenu.setRoleId(roleId);
@@ -160,8 +183,10 @@ public class PermissionService {
         }
         
         if (!roleMenus.isEmpty()) {
-            roleMenuMapper.batchInsert(roleMenus);
+            dashboardCounterService.permissionsAdded(roleMenuMapper.batchInsert(roleMenus));
         }
+        cacheInvalidationService.invalidateRolePermissions(List.of(roleId));
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public boolean hasPermission(Long userId, Long menuId, String permissionType) {
@@ -197,6 +222,19 @@ public class PermissionService {
         return roleMenuMapper.findWithPagination(offset, size);
     }
 
+    /**
+     * 커서 페이지네이션 권한 조회 - 기본 키 (role_id, menu_id) 오름차순
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     */
+    public CursorPageResponse<RoleMenu> getPermissionsByCursor(String cursor, int size) {
+        PageCursor.validatePageSize(size);
+        PageCursor after = PageCursor.decode(cursor, 2);
+        List<RoleMenu> rows = roleMenuMapper.findAfterCursor(
+                after != null ? after.getLong(0) : null, after != null ? after.getLong(1) : null, size + 1);
+        return CursorPageResponse.of(rows, size,
+                permission -> PageCursor.encode(permission.getRoleId(), permission.getMenuId()));
+    }
+
     public boolean existsByRoleIdAndMenuId(Long roleId, Long menuId) {
         return roleMenuMapper.existsByRoleIdAndMenuId(roleId, menuId);
     }
@@ -1,7 +1,11 @@
 package com.basic.project.service;
 
 import com.basic.project.domain.Role;
+import com.basic.project.dto.CursorPageResponse;
+import com.basic.project.dto.PageCursor;
 import com.basic.project.mapper.RoleMapper;
+import com.basic.project.mapper.RoleMenuMapper;
+import com.basic.project.security.SecurityVersionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +21,16 @@ public class RoleService {
 
     private final RoleMapper roleMapper;
 
+    private final SecurityVersionRegistry securityVersionRegistry;
+
+    private final PermissionMatrixService permissionMatrixService;
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    private final RoleMenuMapper roleMenuMapper;
+
+    private final DashboardCounterService dashboardCounterService;
+
     public List<Role> getAllRoles() {
         return roleMapper.findAll();
     }
@@ -51,6 +65,8 @@ public class RoleService {
         }
         
         roleMapper.insert(role);
+        dashboardCounterService.roleCreated(Boolean.TRUE.equals(role.getIsActive()));
+        cacheInvalidationService.invalidateRole(role.getId());
         return role;
     }
 
@@ -67,6 +83,18 @@ public class RoleService {
 
         role.setId(id);
         roleMapper.update(role);
+
+        // 역할명 또는 활성 상태가 바뀌면 해당 역할 사용자의 토큰 무효화
+        Role previous = existingRole.get();
+        dashboardCounterService.roleActiveChanged(
+                Boolean.TRUE.equals(previous.getIsActive()), Boolean.TRUE.equals(role.getIsActive()));
+        boolean nameChanged = role.getRoleName() != null && !role.getRoleName().equals(previous.getRoleName());
+        boolean activeChanged = role.getIsActive() != null && !role.getIsActive().equals(previous.getIsActive());
+        if (nameChanged || activeChanged) {
+            invalidateRoleTokens(id);
+        }
+        cacheInvalidationService.invalidateRole(id);
+        permissionMatrixService.reloadAfterCommit();
         return roleMapper.findById(id).orElse(null);
     }
 
@@ -81,7 +109,12 @@ public class RoleService {
             throw new IllegalStateException("Cannot delete role that is assigned to users");
         }
         
+        cacheInvalidationService.invalidateRole(id);
+        // 역할 권한(role_menus)은 FK로 함께 삭제되므로 삭제 전에 개수 확인
+        int cascadedPermissions = roleMenuMapper.findMenuIdsByRoleId(id).size();
         roleMapper.delete(id);
+        dashboardCounterService.roleDeleted(Boolean.TRUE.equals(role.get().getIsActive()), cascadedPermissions);
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public int getTotalRoleCount() {
@@ -93,6 +126,17 @@ public class RoleService {
         return roleMapper.findWithPagination(offset, size);
     }
 
+    /**
+     * 커서 페이지네이션 역할 조회 - id 내림차순
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     */
+    public CursorPageResponse<Role> getRolesByCursor(String cursor, int size) {
+        PageCursor.validatePageSize(size);
+        PageCursor after = PageCursor.decode(cursor, 1);
+        List<Role> rows = roleMapper.findAfterCursor(after != null ? after.getLong(0) : null, size + 1);
+        return CursorPageResponse.of(rows, size, role -> PageCursor.encode(role.getId()));
+    }
+
     public void assignRoleToUser(Long userId, Long roleId) {
         if (roleMapper.isRoleAssignedToUser(userId, roleId)) {
             throw new IllegalStateException("Role is already assigned to user");
@@ -104,6 +148,8 @@ public class RoleService {
         }
         
         roleMapper.assignRoleToUser(userId, roleId);
+        securityVersionRegistry.increment(userId);
+        cacheInvalidationService.invalidateUserMenus(userId);
     }
 
     public void removeRoleFromUser(Long userId, Long roleId) {
@@ -112,6 +158,8 @@ public class RoleService {
         }
         
         roleMapper.removeRoleFromUser(userId, roleId);
+        securityVersionRegistry.increment(userId);
+        cacheInvalidationService.invalidateUserMenus(userId);
     }
 
     public List<Long> getUserIdsByRoleId(Long roleId) {
@@ -128,8 +176,13 @@ public class RoleService {
             throw new NoSuchElementException("Role not found");
         }
         Role roleEntity = role.get();
+        boolean wasActive = Boolean.TRUE.equals(roleEntity.getIsActive());
         roleEntity.setIsActive(true);
         roleMapper.update(roleEntity);
+        dashboardCounterService.roleActiveChanged(wasActive, true);
+        invalidateRoleTokens(id);
+        cacheInvalidationService.invalidateRole(id);
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public void deactivateRole(Long id) {
@@ -138,11 +191,20 @@ public class RoleService {
             throw new NoSuchElementException("Role not found");
         }
         Role roleEntity = role.get();
+        boolean wasActive = Boolean.TRUE.equals(roleEntity.getIsActive());
         roleEntity.setIsActive(false);
         roleMapper.update(roleEntity);
+        dashboardCounterService.roleActiveChanged(wasActive, false);
+        invalidateRoleTokens(id);
+        cacheInvalidationService.invalidateRole(id);
+        permissionMatrixService.reloadAfterCommit();
     }
 
     public boolean existsByRoleName(String roleName) {
         return roleMapper.existsByRoleName(roleName);
     }
-}
\ No newline at end of file
+
+    private void invalidateRoleTokens(Long roleId) {
+        securityVersionRegistry.incrementByRole(roleId, roleMapper.findUserIdsByRoleId(roleId));
+    }
+}
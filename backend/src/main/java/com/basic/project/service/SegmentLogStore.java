@@ -0,0 +1,671 @@
+package com.basic.project.service;
+
+import com.basic.project.domain.SystemLog;
+import com.basic.project.dto.DashboardStatsResponse;
+import com.basic.project.dto.LogRetentionResult;
+import com.basic.project.dto.LogSearchRequest;
+import com.basic.project.dto.LogStatsResponse;
+import com.basic.project.dto.LogTimeSeriesPoint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 세그먼트 파일 로그 저장소 (app.log-store.type: SEGMENT)
+ * 로그를 생성 시각 기준 segment.duration 구간별 세그먼트 파일(LogSegment)에 압축 블록으로 추가만 하므로 DB 쓰기가 없음
+ * - 조회: 세그먼트를 최신 구간부터 읽고, 블록 인덱스(시간 범위, 레벨별 건수)로 조건에 맞지 않는 블록은 압축을 풀지 않음
+ * - 건수/통계/시계열: 블록이 조건 구간 안에 모두 들어가면 인덱스의 건수만 합산
+ * - 보존 정리: 구간이 끝난 지 retention-days가 지난 세그먼트를 통째로 삭제
+ * 로그 ID는 이 저장소에서 증가하는 값으로 부여 (시작 시 마지막 세그먼트에서 이어서 부여)
+ * 검색어는 LIKE와 같은 부분 일치(대소문자 무시)로 조회하며 관련도순 정렬은 지원하지 않음
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = SystemLogStore.TYPE_PROPERTY, havingValue = "SEGMENT")
+public class SegmentLogStore implements SystemLogStore {
+
+    private static final DateTimeFormatter SEGMENT_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmm");
+    private static final Comparator<SystemLog> LATEST_FIRST = Comparator
+            .comparing(SystemLog::getCreatedAt)
+            .thenComparing(SystemLog::getId)
+            .reversed();
+
+    /**
+     * 로그를 하나씩 받아 계속 읽을지 반환
+     */
+    @FunctionalInterface
+    private interface Visitor {
+        boolean visit(SystemLog systemLog) throws IOException;
+    }
+
+    private final DashboardCounterService dashboardCounterService;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final long segmentMillis;
+    private final int blockRecords;
+    private final int compressionLevel;
+    private final boolean fsync;
+    private final boolean retentionEnabled;
+    private final int retentionDays;
+    private final int maxMinuteSeriesLength;
+
+    // 구간 시작 시각(epoch 밀리초) → 세그먼트
+    private final ConcurrentSkipListMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+
+    // 쓰기(ID 부여, 세그먼트 추가/삭제)는 한 번에 하나씩
+    private final Object writeLock = new Object();
+    private final Set<LogSegment> openSegments = new HashSet<>();
+    private long lastId;
+
+    // 수동 실행(API)과 스케줄 실행이 겹치지 않도록 한 번에 하나만 실행
+    private final ReentrantLock retentionLock = new ReentrantLock();
+    private volatile LogRetentionResult lastResult;
+
+    private final Timer appendLatency;
+
+    public SegmentLogStore(
+            DashboardCounterService dashboardCounterService,
+            MeterRegistry meterRegistry,
+            @Value("${app.log-store.segment.directory:logs/audit-segments}") String directory,
+            @Value("${app.log-store.segment.duration:1h}") Duration segmentDuration,
+            @Value("${app.log-store.segment.block-records:500}") int blockRecords,
+            @Value("${app.log-store.segment.compression-level:6}") int compressionLevel,
+            @Value("${app.log-store.segment.fsync:false}") boolean fsync,
+            @Value("${app.log-retention.enabled:true}") boolean retentionEnabled,
+            @Value("${app.log-retention.retention-days:30}") int retentionDays,
+            @Value("${app.log-rollup.minute-retention-hours:48}") int minuteRetentionHours) {
+        long dayMillis = Duration.ofDays(1).toMillis();
+        if (segmentDuration.toMillis() < Duration.ofMinutes(1).toMillis() || dayMillis % segmentDuration.toMillis() != 0) {
+            throw new IllegalArgumentException("app.log-store.segment.duration은 1분 이상이고 하루를 나누어떨어지게 해야 합니다: " + segmentDuration);
+        }
+        this.dashboardCounterService = dashboardCounterService;
+        this.meterRegistry = meterRegistry;
+        this.directory = Paths.get(directory);
+        this.segmentMillis = segmentDuration.toMillis();
+        this.blockRecords = blockRecords;
+        this.compressionLevel = compressionLevel;
+        this.fsync = fsync;
+        this.retentionEnabled = retentionEnabled;
+        this.retentionDays = retentionDays;
+        this.maxMinuteSeriesLength = minuteRetentionHours * 60;
+
+        this.appendLatency = Timer.builder("log.segment.append.latency")
+                .description("로그 세그먼트 추가 시간")
+                .register(meterRegistry);
+        Gauge.builder("log.segment.count", segments, Map::size)
+                .description("로그 세그먼트 수")
+                .register(meterRegistry);
+        Gauge.builder("log.segment.bytes", segments,
+                        map -> map.values().stream().mapToLong(LogSegment::getDataSize).sum())
+                .description("로그 세그먼트 데이터 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기존 세그먼트를 열고 (비정상 종료로 남은 부분 정리) 다음 로그 ID 확인
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        List<String> names;
+        try (Stream<Path> files = Files.list(directory)) {
+            names = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(LogSegment.DATA_EXTENSION) || name.endsWith(LogSegment.INDEX_EXTENSION))
+                    .map(name -> name.substring(0, name.lastIndexOf('.')))
+                    .distinct()
+                    .toList();
+        }
+        for (String name : names) {
+            LocalDateTime start;
+            try {
+                start = LocalDateTime.parse(name, SEGMENT_NAME_FORMAT);
+            } catch (DateTimeParseException e) {
+                log.warn("로그 세그먼트 이름 형식이 아니므로 건너뜀: {}", name);
+                continue;
+            }
+            LogSegment segment = new LogSegment(directory, name, LogSegment.toMillis(start));
+            segment.recover();
+            segments.put(segment.getStartMillis(), segment);
+            lastId = Math.max(lastId, segment.lastId());
+        }
+        log.info("로그 세그먼트 저장소 시작 - {} (세그먼트 {}개, 구간 {}분, 마지막 ID {})",
+                directory.toAbsolutePath(), segments.size(), TimeUnit.MILLISECONDS.toMinutes(segmentMillis), lastId);
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (writeLock) {
+            openSegments.forEach(LogSegment::closeWriter);
+            openSegments.clear();
+        }
+    }
+
+    // ===== 쓰기 =====
+
+    /**
+     * 로그에 ID를 부여하고 생성 시각 구간의 세그먼트에 추가 (늦게 도착한 로그는 이전 구간 세그먼트에 추가)
+     * 이미 ID가 있는 로그는 저장된 것으로 보고 건너뜀 - 일부 구간만 저장에 실패하면 실패한 로그의 ID만 비우므로
+     * AuditLogWriter가 개별 재시도할 때 같은 로그가 두 번 저장되지 않음
+     */
+    @Override
+    public void append(List<SystemLog> systemLogs) {
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            Map<Long, List<SystemLog>> byPartition = new TreeMap<>();
+            for (SystemLog systemLog : systemLogs) {
+                if (systemLog.getId() != null) {
+                    continue;
+                }
+                LocalDateTime createdAt = systemLog.getCreatedAt() != null ? systemLog.getCreatedAt() : LocalDateTime.now();
+                systemLog.setCreatedAt(createdAt.truncatedTo(ChronoUnit.MILLIS));
+                systemLog.setId(++lastId);
+                byPartition.computeIfAbsent(partitionOf(systemLog.getCreatedAt()), key -> new ArrayList<>()).add(systemLog);
+            }
+
+            IOException failure = null;
+            for (Map.Entry<Long, List<SystemLog>> partition : byPartition.entrySet()) {
+                LogSegment segment = segments.computeIfAbsent(partition.getKey(), this::newSegment);
+                openSegments.add(segment);
+                try {
+                    segment.append(partition.getValue(), blockRecords, compressionLevel, fsync);
+                } catch (IOException e) {
+                    partition.getValue().forEach(systemLog -> systemLog.setId(null));
+                    failure = e;
+                }
+            }
+            closeIdleWriters();
+            if (failure != null) {
+                throw new UncheckedIOException("로그 세그먼트 저장 실패", failure);
+            }
+        }
+        appendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private LogSegment newSegment(long startMillis) {
+        return new LogSegment(directory, SEGMENT_NAME_FORMAT.format(LogSegment.toDateTime(startMillis)), startMillis);
+    }
+
+    private long partitionOf(LocalDateTime dateTime) {
+        long millis = LogSegment.toMillis(dateTime);
+        return millis - Math.floorMod(millis, segmentMillis);
+    }
+
+    /**
+     * 현재와 직전 구간이 아닌 세그먼트의 쓰기 파일을 닫음 (쓰기 잠금 안에서 호출)
+     */
+    private void closeIdleWriters() {
+        long oldestActive = partitionOf(LocalDateTime.now()) - segmentMillis;
+        openSegments.removeIf(segment -> {
+            if (segment.getStartMillis() < oldestActive) {
+                segment.closeWriter();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    // ===== 조회 =====
+
+    @Override
+    public List<SystemLog> findAll() {
+        return collect(LogFilter.all(), 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<SystemLog> findPage(int offset, int limit) {
+        return collect(LogFilter.all(), offset, limit);
+    }
+
+    @Override
+    public List<SystemLog> findAfterCursor(LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return collect(LogFilter.all().after(cursorCreatedAt, cursorId), 0, limit);
+    }
+
+    @Override
+    public List<SystemLog> search(LogSearchRequest request) {
+        return collect(LogFilter.of(request), request.getPage(), request.getSize());
+    }
+
+    @Override
+    public List<SystemLog> searchAfterCursor(LogSearchRequest request, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return collect(LogFilter.of(request).after(cursorCreatedAt, cursorId), 0, limit);
+    }
+
+    @Override
+    public void stream(LogSearchRequest request, LogConsumer consumer) throws IOException {
+        scanLatestFirst(LogFilter.of(request), systemLog -> {
+            consumer.accept(systemLog);
+            return true;
+        });
+    }
+
+    @Override
+    public int count() {
+        return (int) countMatching(LogFilter.all());
+    }
+
+    @Override
+    public int countBySearch(LogSearchRequest request) {
+        return (int) countMatching(LogFilter.of(request));
+    }
+
+    @Override
+    public long countByLevel(String level) {
+        return countMatching(LogFilter.of(LogSearchRequest.builder().level(level).build()));
+    }
+
+    @Override
+    public int countByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return (int) countMatching(LogFilter.of(LogSearchRequest.builder().startDate(startDate).endDate(endDate).build()));
+    }
+
+    @Override
+    public DashboardStatsResponse getLogCounts() {
+        return DashboardStatsResponse.builder()
+                .totalLogs(count())
+                .todayLogs((int) getTodayCount())
+                .build();
+    }
+
+    /**
+     * 블록 인덱스의 레벨별 건수만 합산 (압축 해제 없음)
+     */
+    @Override
+    public LogStatsResponse getStats() {
+        LogStatsResponse stats = new LogStatsResponse();
+        for (LogSegment segment : segments.values()) {
+            for (LogSegment.Block block : blocksOf(segment)) {
+                stats.setTotal(stats.getTotal() + block.count());
+                stats.setInfo(stats.getInfo() + block.info());
+                stats.setWarning(stats.getWarning() + block.warning());
+                stats.setError(stats.getError() + block.error());
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public long getTodayCount() {
+        return countMatching(LogFilter.of(LogSearchRequest.builder().startDate(LocalDate.now().atStartOfDay()).build()));
+    }
+
+    @Override
+    public List<LogTimeSeriesPoint> getHourlySeries(int days) {
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        return series(to.minusDays(days).plusHours(1), to, ChronoUnit.HOURS);
+    }
+
+    @Override
+    public List<LogTimeSeriesPoint> getMinuteSeries(int minutes) {
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        return series(to.minusMinutes(minutes - 1L), to, ChronoUnit.MINUTES);
+    }
+
+    @Override
+    public int getMaxMinuteSeriesLength() {
+        return maxMinuteSeriesLength;
+    }
+
+    private List<SystemLog> collect(LogFilter filter, int offset, int limit) {
+        List<SystemLog> rows = new ArrayList<>(Math.min(limit, 1000));
+        int[] skipped = {0};
+        try {
+            scanLatestFirst(filter, systemLog -> {
+                if (skipped[0] < offset) {
+                    skipped[0]++;
+                    return true;
+                }
+                rows.add(systemLog);
+                return rows.size() < limit;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 세그먼트 조회 실패", e);
+        }
+        return rows;
+    }
+
+    /**
+     * 조건에 맞는 로그를 (created_at, id) 내림차순으로 전달
+     * 세그먼트는 겹치지 않는 시간 구간이므로 최신 구간부터 읽고, 세그먼트 안에서는 블록을 최대 시각 내림차순으로 읽으면서
+     * 다음 블록의 최대 시각보다 늦은 로그만 내보냄 (블록 시간 범위가 겹치는 만큼만 메모리에 보관)
+     */
+    private void scanLatestFirst(LogFilter filter, Visitor visitor) throws IOException {
+        for (LogSegment segment : segments.descendingMap().values()) {
+            if (!overlaps(segment, filter)) {
+                continue;
+            }
+            List<LogSegment.Block> blocks = new ArrayList<>(segment.blocks());
+            blocks.removeIf(block -> !filter.mayContain(block));
+            blocks.sort(Comparator.comparingLong(LogSegment.Block::maxTime).reversed());
+
+            PriorityQueue<SystemLog> pending = new PriorityQueue<>(LATEST_FIRST);
+            for (int i = 0; i < blocks.size(); i++) {
+                for (SystemLog systemLog : segment.readBlock(blocks.get(i))) {
+                    if (filter.matches(systemLog)) {
+                        pending.add(systemLog);
+                    }
+                }
+                long nextMaxTime = i + 1 < blocks.size() ? blocks.get(i + 1).maxTime() : Long.MIN_VALUE;
+                while (!pending.isEmpty() && LogSegment.toMillis(pending.peek().getCreatedAt()) > nextMaxTime) {
+                    if (!visitor.visit(pending.poll())) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 로그 수 - 블록 전체가 조건에 맞으면 인덱스 건수 사용
+     */
+    private long countMatching(LogFilter filter) {
+        long total = 0;
+        try {
+            for (LogSegment segment : segments.values()) {
+                if (!overlaps(segment, filter)) {
+                    continue;
+                }
+                for (LogSegment.Block block : segment.blocks()) {
+                    if (!filter.mayContain(block)) {
+                        continue;
+                    }
+                    long indexed = filter.countFromIndex(block);
+                    if (indexed >= 0) {
+                        total += indexed;
+                        continue;
+                    }
+                    for (SystemLog systemLog : segment.readBlock(block)) {
+                        if (filter.matches(systemLog)) {
+                            total++;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 세그먼트 조회 실패", e);
+        }
+        return total;
+    }
+
+    /**
+     * from ~ to 구간별 레벨 건수 - 블록이 한 구간 안에 있으면 인덱스 건수 사용
+     */
+    private List<LogTimeSeriesPoint> series(LocalDateTime from, LocalDateTime to, ChronoUnit unit) {
+        LogFilter filter = LogFilter.of(LogSearchRequest.builder()
+                .startDate(from)
+                .endDate(to.plus(1, unit).minus(1, ChronoUnit.MILLIS))
+                .build());
+        Map<LocalDateTime, LogTimeSeriesPoint> buckets = new HashMap<>();
+        try {
+            for (LogSegment segment : segments.values()) {
+                if (!overlaps(segment, filter)) {
+                    continue;
+                }
+                for (LogSegment.Block block : segment.blocks()) {
+                    if (!filter.mayContain(block)) {
+                        continue;
+                    }
+                    LocalDateTime first = LogSegment.toDateTime(block.minTime()).truncatedTo(unit);
+                    LocalDateTime last = LogSegment.toDateTime(block.maxTime()).truncatedTo(unit);
+                    if (first.equals(last)) {
+                        addToBucket(buckets, first, block.count(), block.info(), block.warning(), block.error());
+                        continue;
+                    }
+                    for (SystemLog systemLog : segment.readBlock(block)) {
+                        if (filter.matches(systemLog)) {
+                            String level = systemLog.getLevel();
+                            addToBucket(buckets, systemLog.getCreatedAt().truncatedTo(unit), 1,
+                                    "INFO".equalsIgnoreCase(level) ? 1 : 0,
+                                    "WARNING".equalsIgnoreCase(level) ? 1 : 0,
+                                    "ERROR".equalsIgnoreCase(level) ? 1 : 0);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 세그먼트 조회 실패", e);
+        }
+        return LogRollupService.fillGaps(new ArrayList<>(buckets.values()), from, to, unit);
+    }
+
+    private static void addToBucket(Map<LocalDateTime, LogTimeSeriesPoint> buckets, LocalDateTime bucketStart,
+                                    long total, long info, long warning, long error) {
+        LogTimeSeriesPoint point = buckets.computeIfAbsent(bucketStart,
+                key -> LogTimeSeriesPoint.builder().bucketStart(key).build());
+        point.setTotal(point.getTotal() + total);
+        point.setInfo(point.getInfo() + info);
+        point.setWarning(point.getWarning() + warning);
+        point.setError(point.getError() + error);
+    }
+
+    private boolean overlaps(LogSegment segment, LogFilter filter) {
+        return segment.getStartMillis() <= filter.toMillis && segment.getStartMillis() + segmentMillis > filter.fromMillis;
+    }
+
+    private static List<LogSegment.Block> blocksOf(LogSegment segment) {
+        try {
+            return segment.blocks();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 세그먼트 조회 실패", e);
+        }
+    }
+
+    // ===== 보존 정리 =====
+
+    @Scheduled(cron = "${app.log-retention.cron:0 30 3 * * *}")
+    public void scheduledPurge() {
+        if (!retentionEnabled) {
+            return;
+        }
+        try {
+            purge(retentionDays);
+        } catch (IllegalStateException e) {
+            log.info("로그 보존 정리 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("로그 보존 정리 실패 - 다음 주기에 이어서 정리", e);
+        }
+    }
+
+    /**
+     * 구간이 cutoff 이전에 끝난 세그먼트를 통째로 삭제 (cutoff가 걸친 세그먼트는 구간이 지난 뒤 다음 실행에서 삭제)
+     */
+    @Override
+    public LogRetentionResult purge(int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("보존 기간은 1일 이상이어야 합니다");
+        }
+        if (!retentionLock.tryLock()) {
+            throw new IllegalStateException("로그 보존 정리가 이미 실행 중입니다");
+        }
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
+            long cutoffMillis = LogSegment.toMillis(cutoff);
+            List<String> deletedSegments = new ArrayList<>();
+            long deletedRows = 0;
+            for (LogSegment segment : new ArrayList<>(segments.headMap(cutoffMillis - segmentMillis, true).values())) {
+                // 세그먼트 제거와 대시보드 카운터 감소 사이에 재동기화가 끼어들지 않도록 함께 감쌈
+                deletedRows += dashboardCounterService.trackLogWrite(() -> {
+                    try {
+                        long rows = blocksOf(segment).stream().mapToLong(LogSegment.Block::count).sum();
+                        synchronized (writeLock) {
+                            segments.remove(segment.getStartMillis());
+                            openSegments.remove(segment);
+                            segment.delete();
+                        }
+                        dashboardCounterService.logsDeleted((int) rows);
+                        return rows;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("로그 세그먼트 삭제 실패", e);
+                    }
+                });
+                deletedSegments.add(segment.getName());
+            }
+
+            LogRetentionResult result = LogRetentionResult.builder()
+                    .mode("SEGMENT")
+                    .cutoff(cutoff)
+                    .deletedRows(deletedRows)
+                    .droppedPartitions(deletedSegments)
+                    .completed(true)
+                    .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .build();
+            lastResult = result;
+            outcome = "completed";
+            log.info("로그 보존 정리 완료 - {} 이전 세그먼트 {}개 삭제 (로그 {}건, {}ms)",
+                    cutoff, deletedSegments.size(), deletedRows, result.getDurationMs());
+            return result;
+        } finally {
+            Timer.builder("log.retention.duration")
+                    .description("로그 보존 정리 실행 시간")
+                    .tag("mode", "segment")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            retentionLock.unlock();
+        }
+    }
+
+    @Override
+    public LogRetentionResult getLastRetentionResult() {
+        return lastResult;
+    }
+
+    /**
+     * 세그먼트 조회 조건 (LogSearchRequest와 커서, system_logs 검색 조건과 같은 의미)
+     */
+    private static final class LogFilter {
+
+        private final long fromMillis;
+        private final long toMillis;
+        private final String level;
+        private final String username;
+        private final String action;
+        private final String search;
+        private final LocalDateTime cursorCreatedAt;
+        private final Long cursorId;
+
+        private LogFilter(long fromMillis, long toMillis, String level, String username, String action, String search,
+                          LocalDateTime cursorCreatedAt, Long cursorId) {
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+            this.level = level;
+            this.username = username;
+            this.action = action;
+            this.search = search;
+            this.cursorCreatedAt = cursorCreatedAt;
+            this.cursorId = cursorId;
+        }
+
+        static LogFilter all() {
+            return new LogFilter(Long.MIN_VALUE, Long.MAX_VALUE, null, null, null, null, null, null);
+        }
+
+        static LogFilter of(LogSearchRequest request) {
+            return new LogFilter(
+                    request.getStartDate() != null ? LogSegment.toMillis(request.getStartDate()) : Long.MIN_VALUE,
+                    request.getEndDate() != null ? LogSegment.toMillis(request.getEndDate()) : Long.MAX_VALUE,
+                    emptyToNull(request.getLevel()),
+                    lowerCase(request.getUsername()),
+                    lowerCase(request.getAction()),
+                    lowerCase(request.getSearch()),
+                    null, null);
+        }
+
+        /**
+         * (created_at, id) 내림차순에서 커서 행 뒤의 로그만 (cursorCreatedAt이 null이면 그대로)
+         */
+        LogFilter after(LocalDateTime cursorCreatedAt, Long cursorId) {
+            if (cursorCreatedAt == null) {
+                return this;
+            }
+            return new LogFilter(fromMillis, Math.min(toMillis, LogSegment.toMillis(cursorCreatedAt)),
+                    level, username, action, search, cursorCreatedAt, cursorId);
+        }
+
+        boolean mayContain(LogSegment.Block block) {
+            return block.maxTime() >= fromMillis && block.minTime() <= toMillis
+                    && (level == null || block.countOf(level) != 0);
+        }
+
+        /**
+         * 블록을 읽지 않고 인덱스로 알 수 있는 건수 (알 수 없으면 -1)
+         */
+        long countFromIndex(LogSegment.Block block) {
+            if (username != null || action != null || search != null || cursorCreatedAt != null
+                    || block.minTime() < fromMillis || block.maxTime() > toMillis) {
+                return -1;
+            }
+            return level == null ? block.count() : block.countOf(level);
+        }
+
+        boolean matches(SystemLog systemLog) {
+            long time = LogSegment.toMillis(systemLog.getCreatedAt());
+            if (time < fromMillis || time > toMillis) {
+                return false;
+            }
+            if (cursorCreatedAt != null && !(systemLog.getCreatedAt().isBefore(cursorCreatedAt)
+                    || (systemLog.getCreatedAt().isEqual(cursorCreatedAt) && systemLog.getId() < cursorId))) {
+                return false;
+            }
+            if (level != null && !level.equalsIgnoreCase(systemLog.getLevel())) {
+                return false;
+            }
+            if (username != null && !contains(systemLog.getUsername(), username)) {
+                return false;
+            }
+            if (action != null && !contains(systemLog.getAction(), action)) {
+                return false;
+            }
+            return search == null || contains(systemLog.getMessage(), search)
+                    || contains(systemLog.getAction(), search) || contains(systemLog.getUsername(), search);
+        }
+
+        private static boolean contains(String value, String lowerCaseTerm) {
+            return value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        private static String lowerCase(String value) {
+            return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
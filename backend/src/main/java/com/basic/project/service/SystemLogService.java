@@ -1,14 +1,15 @@
 package com.basic.project.service;
 
 import com.basic.project.domain.SystemLog;
+import com.basic.project.dto.CursorPageResponse;
+import com.basic.project.dto.LogRetentionResult;
 import com.basic.project.dto.LogSearchRequest;
 import com.basic.project.dto.LogStatsResponse;
-import com.basic.project.mapper.SystemLogMapper;
+import com.basic.project.dto.LogTimeSeriesPoint;
+import com.basic.project.dto.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,13 +20,14 @@ import java.util.Random;
 @RequiredArgsConstructor
 public class SystemLogService {
     
-    private final SystemLogMapper systemLogMapper;
+    // app.log-store.type에 따라 DatabaseLogStore 또는 SegmentLogStore
+    private final SystemLogStore systemLogStore;
+    private final AuditLogWriter auditLogWriter;
     private final Random random = new Random();
     
     private static final String LOG_LEVEL_WARNING = "WARNING";
+    private static final int MAX_HOURLY_SERIES_DAYS = 90;
     
-    @Async
-    @Transactional
     public void createLog(String level, String username, String action, String message, String ipAddress, String userAgent) {
         SystemLog systemLog = SystemLog.builder()
                 .level(level)
@@ -37,11 +39,9 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
-    @Async
-    @Transactional
     public void createLog(String level, String username, String action, String message, String ipAddress, String userAgent, String details) {
         SystemLog systemLog = SystemLog.builder()
                 .level(level)
@@ -54,16 +54,16 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
     public List<SystemLog> getAllLogs() {
-        return systemLogMapper.findAll();
+        return systemLogStore.findAll();
     }
     
     public List<SystemLog> getLogsWithPagination(int page, int size) {
         int offset = page * size;
-        return systemLogMapper.findWithPagination(offset, size);
+        return systemLogStore.findPage(offset, size);
     }
     
     public List<SystemLog> searchLogs(LogSearchRequest request) {
@@ -71,34 +71,83 @@ public class SystemLogService {
         int offset = request.getPage() * request.getSize();
         request.setPage(offset);
         
-        return systemLogMapper.search(request);
+        return systemLogStore.search(request);
+    }
+    
+    /**
+     * 커서 페이지네이션 로그 조회 - (created_at, id) 내림차순, 페이지 깊이와 무관하게 인덱스 범위 스캔
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     */
+    public CursorPageResponse<SystemLog> getLogsByCursor(String cursor, int size) {
+        PageCursor.validatePageSize(size);
+        PageCursor after = PageCursor.decode(cursor, 2);
+        List<SystemLog> rows = systemLogStore.findAfterCursor(
+                after != null ? after.getDateTime(0) : null, after != null ? after.getLong(1) : null, size + 1);
+        return CursorPageResponse.of(rows, size, SystemLogService::toCursor);
+    }
+    
+    /**
+     * 커서 페이지네이션 로그 검색 (page는 사용하지 않음)
+     */
+    public CursorPageResponse<SystemLog> searchLogsByCursor(LogSearchRequest request, String cursor) {
+        PageCursor.validatePageSize(request.getSize());
+        PageCursor after = PageCursor.decode(cursor, 2);
+        List<SystemLog> rows = systemLogStore.searchAfterCursor(request,
+                after != null ? after.getDateTime(0) : null, after != null ? after.getLong(1) : null, request.getSize() + 1);
+        return CursorPageResponse.of(rows, request.getSize(), SystemLogService::toCursor);
+    }
+    
+    private static String toCursor(SystemLog systemLog) {
+        return PageCursor.encode(systemLog.getCreatedAt(), systemLog.getId());
     }
     
     public int getTotalCount() {
-        return systemLogMapper.count();
+        return systemLogStore.count();
     }
     
     public int getSearchCount(LogSearchRequest request) {
-        return systemLogMapper.countBySearch(request);
+        return systemLogStore.countBySearch(request);
     }
     
     public LogStatsResponse getLogStats() {
-        return systemLogMapper.getStats();
+        return systemLogStore.getStats();
+    }
+    
+    public long getTodayLogsCount() {
+        return systemLogStore.getTodayCount();
+    }
+    
+    public List<LogTimeSeriesPoint> getHourlyLogCounts(int days) {
+        if (days < 1 || days > MAX_HOURLY_SERIES_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1~" + MAX_HOURLY_SERIES_DAYS + "일이어야 합니다");
+        }
+        return systemLogStore.getHourlySeries(days);
+    }
+    
+    public List<LogTimeSeriesPoint> getMinuteLogCounts(int minutes) {
+        int maxMinutes = systemLogStore.getMaxMinuteSeriesLength();
+        if (minutes < 1 || minutes > maxMinutes) {
+            throw new IllegalArgumentException("조회 기간은 1~" + maxMinutes + "분이어야 합니다");
+        }
+        return systemLogStore.getMinuteSeries(minutes);
     }
     
     public long getCountByLevel(String level) {
-        return systemLogMapper.countByLevel(level);
+        return systemLogStore.countByLevel(level);
+    }
+    
+    /**
+     * days일이 지난 로그 정리 - 저장소별로 구간/세그먼트 단위로 나눠 삭제하므로 트랜잭션으로 묶지 않음
+     */
+    public LogRetentionResult deleteOldLogs(int days) {
+        return systemLogStore.purge(days);
     }
     
-    @Transactional
-    public void deleteOldLogs(int days) {
-        systemLogMapper.deleteOldLogs(days);
-        log.info("Deleted logs older than {} days", days);
+    public LogRetentionResult getLastRetentionResult() {
+        return systemLogStore.getLastRetentionResult();
     }
     
     // 편의 메서드들
-    @Async
-    @Transactional
     public void logInfo(String username, String action, String message, String ipAddress, String userAgent) {
         SystemLog systemLog = SystemLog.builder()
                 .level("INFO")
@@ -110,11 +159,9 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
-    @Async
-    @Transactional
     public void logWarning(String username, String action, String message, String ipAddress, String userAgent) {
         SystemLog systemLog = SystemLog.builder()
                 .level(LOG_LEVEL_WARNING)
@@ -126,11 +173,9 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
-    @Async
-    @Transactional
     public void logError(String username, String action, String message, String ipAddress, String userAgent) {
         SystemLog systemLog = SystemLog.builder()
                 .level("ERROR")
@@ -142,11 +187,9 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
-    @Async
-    @Transactional
     public void logLogin(String username, String ipAddress, String userAgent) {
         SystemLog systemLog = SystemLog.builder()
                 .level("INFO")
@@ -158,11 +201,9 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
-    @Async
-    @Transactional
     public void logLogout(String username, String ipAddress, String userAgent) {
         SystemLog systemLog = SystemLog.builder()
                 .level("INFO")
@@ -174,11 +215,9 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
-    @Async
-    @Transactional
     public void logLoginFailed(String username, String ipAddress, String userAgent, String reason) {
         SystemLog systemLog = SystemLog.builder()
                 .level(LOG_LEVEL_WARNING)
@@ -190,11 +229,9 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
-    @Async
-    @Transactional
     public void logUnauthorizedAccess(String username, String ipAddress, String userAgent, String resource) {
         SystemLog systemLog = SystemLog.builder()
                 .level(LOG_LEVEL_WARNING)
@@ -206,7 +243,7 @@ public class SystemLogService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        systemLogMapper.insert(systemLog);
+        auditLogWriter.enqueue(systemLog);
     }
     
     /**
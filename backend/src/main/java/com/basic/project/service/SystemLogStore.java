@@ -0,0 +1,90 @@
+package com.basic.project.service;
+
+import com.basic.project.domain.SystemLog;
+import com.basic.project.dto.DashboardStatsResponse;
+import com.basic.project.dto.LogRetentionResult;
+import com.basic.project.dto.LogSearchRequest;
+import com.basic.project.dto.LogStatsResponse;
+import com.basic.project.dto.LogTimeSeriesPoint;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시스템 로그 저장소 - app.log-store.type으로 선택
+ * - DATABASE: system_logs 테이블 (DatabaseLogStore, 기본)
+ * - SEGMENT: 로컬 압축 세그먼트 파일 (SegmentLogStore)
+ * 조회 결과는 모두 (created_at, id) 내림차순
+ */
+public interface SystemLogStore {
+
+    String TYPE_PROPERTY = "app.log-store.type";
+
+    /**
+     * 내보내기 등에서 로그를 한 건씩 받는 콜백
+     */
+    @FunctionalInterface
+    interface LogConsumer {
+        void accept(SystemLog systemLog) throws IOException;
+    }
+
+    /**
+     * 로그 일괄 저장 (AuditLogWriter에서 호출, createdAt이 없으면 현재 시각)
+     */
+    void append(List<SystemLog> systemLogs);
+
+    List<SystemLog> findAll();
+
+    List<SystemLog> findPage(int offset, int limit);
+
+    /**
+     * @param cursorCreatedAt 커서 행의 생성 시각 (null이면 첫 페이지)
+     */
+    List<SystemLog> findAfterCursor(LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 검색 (request.page는 offset으로 사용)
+     */
+    List<SystemLog> search(LogSearchRequest request);
+
+    List<SystemLog> searchAfterCursor(LogSearchRequest request, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 검색 조건에 맞는 로그를 한 건씩 전달 (로그 수와 무관하게 메모리 사용 일정)
+     * @throws IOException consumer에서 발생한 오류 (클라이언트 연결 종료 등)
+     */
+    void stream(LogSearchRequest request, LogConsumer consumer) throws IOException;
+
+    int count();
+
+    int countBySearch(LogSearchRequest request);
+
+    long countByLevel(String level);
+
+    int countByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 대시보드 로그 건수 (totalLogs, todayLogs)
+     */
+    DashboardStatsResponse getLogCounts();
+
+    LogStatsResponse getStats();
+
+    long getTodayCount();
+
+    List<LogTimeSeriesPoint> getHourlySeries(int days);
+
+    List<LogTimeSeriesPoint> getMinuteSeries(int minutes);
+
+    int getMaxMinuteSeriesLength();
+
+    /**
+     * days일이 지난 로그 정리
+     * @throws IllegalArgumentException days가 1 미만
+     * @throws IllegalStateException 이미 정리가 실행 중
+     */
+    LogRetentionResult purge(int days);
+
+    LogRetentionResult getLastRetentionResult();
+}
@@ -1,11 +1,14 @@
 package com.basic.project.service;
 
 import com.basic.project.domain.User;
+import com.basic.project.dto.CursorPageResponse;
+import com.basic.project.dto.PageCursor;
 import com.basic.project.dto.RegisterRequest;
 import com.basic.project.dto.UpdateProfileRequest;
 import com.basic.project.dto.CreateUserRequest;
 import com.basic.project.mapper.UserMapper;
 import com.basic.project.mapper.RoleMapper;
+import com.basic.project.security.SecurityVersionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -26,6 +29,10 @@ public class UserService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final SecurityVersionRegistry securityVersionRegistry;
+
+    private final DashboardCounterService dashboardCounterService;
+
     public List<User> getAllUsers() {
         return userMapper.findAll();
     }
@@ -68,6 +75,7 @@ public class UserService {
         }
         
         userMapper.insert(user);
+        dashboardCounterService.userCreated(Boolean.TRUE.equals(user.getIsActive()));
         return user;
     }
 
@@ -76,6 +84,7 @@ public class UserService {
         
         User user = buildUserFromRequest(request);
         userMapper.insert(user);
+        dashboardCounterService.userCreated(Boolean.TRUE.equals(user.getIsActive()));
         
         assignRolesToUser(user.getId(), request.getRoleIds());
         
@@ -128,6 +137,15 @@ public class UserService {
 
         user.setId(id);
         userMapper.update(user);
+        dashboardCounterService.userActiveChanged(
+                Boolean.TRUE.equals(existingUser.get().getIsActive()), Boolean.TRUE.equals(user.getIsActive()));
+
+        // 활성 상태나 사용자명(토큰 subject)이 바뀌면 기존 토큰 무효화
+        boolean activeChanged = user.getIsActive() != null && !user.getIsActive().equals(existingUser.get().getIsActive());
+        boolean usernameChanged = user.getUsername() != null && !user.getUsername().equals(existingUser.get().getUsername());
+        if (activeChanged || usernameChanged) {
+            securityVersionRegistry.increment(id);
+        }
         return userMapper.findById(id).orElse(null);
     }
 
@@ -137,6 +155,8 @@ public class UserService {
             throw new NoSuchElementException("User not found");
         }
         userMapper.delete(id);
+        dashboardCounterService.userDeleted(Boolean.TRUE.equals(user.get().getIsActive()));
+        securityVersionRegistry.revoke(id);
     }
 
     public void updatePassword(Long id, String newPassword) {
@@ -146,6 +166,7 @@ public class UserService {
         }
         String encodedPassword = passwordEncoder.encode(newPassword);
         userMapper.updatePassword(id, encodedPassword);
+        securityVersionRegistry.increment(id);
     }
 
     public void updateLastLogin(Long id) {
@@ -161,14 +182,29 @@ public class UserService {
         return userMapper.findWithPagination(offset, size);
     }
 
+    /**
+     * 커서 페이지네이션 사용자 조회 - (created_at, id) 내림차순
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     */
+    public CursorPageResponse<User> getUsersByCursor(String cursor, int size) {
+        PageCursor.validatePageSize(size);
+        PageCursor after = PageCursor.decode(cursor, 2);
+        List<User> rows = userMapper.findAfterCursor(
+                after != null ? after.getDateTime(0) : null, after != null ? after.getLong(1) : null, size + 1);
+        return CursorPageResponse.of(rows, size, user -> PageCursor.encode(user.getCreatedAt(), user.getId()));
+    }
+
     public void activateUser(Long id) {
         Optional<User> user = userMapper.findById(id);
         if (user.isEmpty()) {
             throw new NoSuchElementException("User not found");
         }
         User userEntity = user.get();
+        boolean wasActive = Boolean.TRUE.equals(userEntity.getIsActive());
         userEntity.setIsActive(true);
         userMapper.update(userEntity);
+        dashboardCounterService.userActiveChanged(wasActive, true);
+        securityVersionRegistry.increment(id);
     }
 
     public void deactivateUser(Long id) {
@@ -177,8 +213,11 @@ public class UserService {
             throw new NoSuchElementException("User not found");
         }
         User userEntity = user.get();
+        boolean wasActive = Boolean.TRUE.equals(userEntity.getIsActive());
         userEntity.setIsActive(false);
         userMapper.update(userEntity);
+        dashboardCounterService.userActiveChanged(wasActive, false);
+        securityVersionRegistry.increment(id);
     }
 
     public User registerUser(RegisterRequest registerRequest) {
@@ -204,6 +243,7 @@ public class UserService {
                 .build();
 
         userMapper.insert(user);
+        dashboardCounterService.userCreated(true);
 
         var defaultRole = roleMapper.findByRoleName("USER");
         if (defaultRole.isPresent()) {
@@ -254,6 +294,7 @@ public class UserService {
         // 새 비밀번호 설정
         String encodedNewPassword = passwordEncoder.encode(newPassword);
         userMapper.updatePassword(id, encodedNewPassword);
+        securityVersionRegistry.increment(id);
     }
     
     /**
@@ -276,6 +317,7 @@ public class UserService {
         
         // 해당 사용자가 다음 로그인 시 비밀번호 변경을 강제하도록 플래그 설정
         userMapper.updatePasswordChangeRequired(userId, true);
+        securityVersionRegistry.increment(userId);
     }
     
     /**
@@ -301,5 +343,6 @@ public class UserService {
         
         // 비밀번호 변경 필수 플래그 초기화
         userMapper.updatePasswordChangeRequired(userId, false);
+        securityVersionRegistry.increment(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+-- ===================================================================
+-- 로그 검색 벤치마크: LIKE vs n-gram FULLTEXT
+-- ===================================================================
+-- 운영 DB가 아닌 별도 스키마에서 실행 (system_logs_bench 테이블을 새로 만들고 마지막에 삭제)
+-- 1) 500만 건 생성  2) LIKE 검색 측정  3) FULLTEXT 인덱스 생성  4) MATCH 검색 측정
+-- 각 쿼리는 버퍼 풀이 채워진 상태를 보기 위해 두 번 이상 실행하고 EXPLAIN ANALYZE의 actual time을 비교
+-- 애플리케이션이 실행하는 쿼리와 같은 형태 (SystemLogMapper.search / countBySearch)
+-- ===================================================================
+
+SET SESSION cte_max_recursion_depth = 10000000;
+
+DROP TABLE IF EXISTS system_logs_bench;
+
+CREATE TABLE system_logs_bench (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    level VARCHAR(10),
+    username VARCHAR(50),
+    action VARCHAR(100),
+    message TEXT,
+    ip_address VARCHAR(45),
+    user_agent TEXT,
+    details TEXT,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_bench_created (created_at)
+);
+
+-- 1) 500만 건 생성 (최근 180일에 고르게 분포, 한글/영문 메시지 혼합)
+INSERT INTO system_logs_bench (level, username, action, message, ip_address, created_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 5000000
+)
+SELECT
+    ELT(1 + n % 4, 'INFO', 'INFO', 'WARN', 'ERROR'),
+    CONCAT('user', n % 5000),
+    ELT(1 + n % 6, 'LOGIN', 'LOGOUT', 'CREATE_USER', 'UPDATE_ROLE', 'DELETE_MENU', 'EXPORT_LOGS'),
+    CONCAT(
+        ELT(1 + n % 8, '로그인 성공', '로그인 실패 - 비밀번호 불일치', '사용자 정보 수정', '권한 변경 요청',
+                       '메뉴 삭제', 'Connection timeout to upstream', 'Cache miss for key', '세션 만료로 로그아웃'),
+        ' #', n),
+    CONCAT('10.0.', n % 256, '.', n % 251),
+    NOW() - INTERVAL (n % (180 * 24 * 60)) MINUTE
+FROM seq;
+
+ANALYZE TABLE system_logs_bench;
+
+-- 2) LIKE 검색 (전체 스캔)
+EXPLAIN ANALYZE
+SELECT * FROM system_logs_bench
+WHERE (message LIKE CONCAT('%', '비밀번호', '%') OR action LIKE CONCAT('%', '비밀번호', '%') OR username LIKE CONCAT('%', '비밀번호', '%'))
+ORDER BY created_at DESC LIMIT 20 OFFSET 0;
+
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM system_logs_bench
+WHERE (message LIKE CONCAT('%', '비밀번호', '%') OR action LIKE CONCAT('%', '비밀번호', '%') OR username LIKE CONCAT('%', '비밀번호', '%'));
+
+-- 드문 검색어 (결과가 적을수록 LIKE는 ORDER BY ... LIMIT으로 일찍 끝나지 못하고 전체를 읽음)
+EXPLAIN ANALYZE
+SELECT * FROM system_logs_bench
+WHERE (message LIKE CONCAT('%', '#4999999', '%') OR action LIKE CONCAT('%', '#4999999', '%') OR username LIKE CONCAT('%', '#4999999', '%'))
+ORDER BY created_at DESC LIMIT 20 OFFSET 0;
+
+-- 3) n-gram 전문 검색 인덱스 생성 (생성 시간도 기록)
+ALTER TABLE system_logs_bench
+    ADD FULLTEXT INDEX ft_bench_text (message, action, username) WITH PARSER ngram;
+
+-- 4) MATCH 검색 (애플리케이션은 검색어를 "..." 구문 검색식으로 변환)
+EXPLAIN ANALYZE
+SELECT * FROM system_logs_bench
+WHERE MATCH(message, action, username) AGAINST('"비밀번호"' IN BOOLEAN MODE)
+ORDER BY created_at DESC LIMIT 20 OFFSET 0;
+
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM system_logs_bench
+WHERE MATCH(message, action, username) AGAINST('"비밀번호"' IN BOOLEAN MODE);
+
+EXPLAIN ANALYZE
+SELECT * FROM system_logs_bench
+WHERE MATCH(message, action, username) AGAINST('"4999999"' IN BOOLEAN MODE)
+ORDER BY created_at DESC LIMIT 20 OFFSET 0;
+
+-- 관련도순 (sort=relevance)
+EXPLAIN ANALYZE
+SELECT * FROM system_logs_bench
+WHERE MATCH(message, action, username) AGAINST('"로그인 실패"' IN BOOLEAN MODE)
+ORDER BY MATCH(message, action, username) AGAINST('"로그인 실패"' IN BOOLEAN MODE) DESC, created_at DESC
+LIMIT 20 OFFSET 0;
+
+-- 결과 건수가 같은지 확인 (n-gram 구문 검색과 LIKE는 대부분 같지만 공백/불용어 처리에 따라 다를 수 있음)
+SELECT
+    (SELECT COUNT(*) FROM system_logs_bench WHERE message LIKE '%비밀번호%' OR action LIKE '%비밀번호%' OR username LIKE '%비밀번호%') AS like_count,
+    (SELECT COUNT(*) FROM system_logs_bench WHERE MATCH(message, action, username) AGAINST('"비밀번호"' IN BOOLEAN MODE)) AS fulltext_count;
+
+-- 정리
+DROP TABLE system_logs_bench;
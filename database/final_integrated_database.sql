@@ -45,6 +45,7 @@ CREATE TABLE users (
     login_count INT DEFAULT 0,
     failed_login_attempts INT DEFAULT 0,
     locked_until DATETIME NULL,
+    security_version BIGINT NOT NULL DEFAULT 0, -- JWT 무상태 인증 보안 버전 (기존 DB는 users_security_version.sql 적용)
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     created_by VARCHAR(50),
@@ -155,6 +156,7 @@ CREATE TABLE system_logs (
     execution_time_ms BIGINT,
     additional_data JSON,
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    inserted_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6), -- 저장 시각 (created_at은 이벤트 발생 시각, 기존 DB는 system_logs_inserted_at.sql 적용)
     
     INDEX idx_log_type (log_type),
     INDEX idx_level (level),
@@ -168,6 +170,34 @@ CREATE TABLE system_logs (
     INDEX idx_composite_search (log_type, level, username, created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 시스템 로그 분/시간 단위 집계 테이블 (레벨, 액션별 건수, 기존 DB는 system_log_rollup.sql 적용)
+CREATE TABLE system_log_rollup_minute (
+    bucket_start DATETIME NOT NULL,
+    level VARCHAR(20) NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    log_count BIGINT NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (bucket_start, level, action)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE system_log_rollup_hour (
+    bucket_start DATETIME NOT NULL,
+    level VARCHAR(20) NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    log_count BIGINT NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (bucket_start, level, action)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 집계 진행 위치 (이 ID까지의 로그가 집계 테이블에 반영됨)
+CREATE TABLE system_log_rollup_state (
+    rollup_name VARCHAR(50) PRIMARY KEY,
+    last_log_id BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO system_log_rollup_state (rollup_name, last_log_id) VALUES ('system_logs', 0);
+
 -- 시스템 설정 테이블
 CREATE TABLE system_settings (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -351,7 +381,7 @@ CREATE INDEX idx_menu_visible_order ON menus(is_visible, order_num);
 CREATE INDEX idx_role_menus_permissions ON role_menus(role_id, menu_id, can_read, can_write, can_delete);
 
 -- 전문 검색 인덱스 (옵션 - MySQL 8.0+)
--- ALTER TABLE system_logs ADD FULLTEXT(description);
+-- system_logs 로그 검색용 n-gram 인덱스는 system_logs_fulltext.sql 참고
 -- ALTER TABLE menus ADD FULLTEXT(menu_name, description);
 -- ALTER TABLE users ADD FULLTEXT(full_name, email);
 
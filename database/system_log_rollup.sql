@@ -0,0 +1,49 @@
+-- ===================================================================
+-- 시스템 로그 분/시간 단위 집계 테이블 추가 (기존 데이터베이스 마이그레이션)
+-- ===================================================================
+-- final_integrated_database.sql로 새로 만든 데이터베이스에는 이미 포함되어 있으므로 적용하지 않음
+-- 애플리케이션을 업데이트하기 전에 system_logs_inserted_at.sql과 함께 적용
+-- (적용 전에는 로그 통계/오늘 건수/시계열 API(/api/logs/stats, /count/today, /stats/hourly, /stats/minutely)가 실패하고
+--  로그 집계 스케줄러는 매 주기 경고만 남김)
+--
+-- 진행 위치는 0에서 시작하므로 적용 후 첫 실행부터 기존 로그를
+-- app.log-rollup.batch-size x max-batches-per-run 건씩 나눠 집계 (그동안 통계는 집계되지 않은 로그를 직접 조회해 합산)
+-- 여러 번 실행해도 안전 (IF NOT EXISTS / INSERT IGNORE)
+-- ===================================================================
+
+-- 레벨, 액션별 분 단위 건수 (app.log-rollup.minute-retention-hours 이후 삭제)
+CREATE TABLE IF NOT EXISTS system_log_rollup_minute (
+    bucket_start DATETIME NOT NULL,
+    level VARCHAR(20) NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    log_count BIGINT NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (bucket_start, level, action)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 레벨, 액션별 시간 단위 건수 (로그 보존 정리 시 함께 삭제)
+CREATE TABLE IF NOT EXISTS system_log_rollup_hour (
+    bucket_start DATETIME NOT NULL,
+    level VARCHAR(20) NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    log_count BIGINT NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (bucket_start, level, action)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 집계 진행 위치 (이 ID까지의 로그가 집계 테이블에 반영됨)
+CREATE TABLE IF NOT EXISTS system_log_rollup_state (
+    rollup_name VARCHAR(50) PRIMARY KEY,
+    last_log_id BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO system_log_rollup_state (rollup_name, last_log_id) VALUES ('system_logs', 0);
+
+-- 확인
+SELECT TABLE_NAME
+FROM information_schema.TABLES
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE 'system_log_rollup%';
+
+-- 제거
+-- DROP TABLE IF EXISTS system_log_rollup_minute, system_log_rollup_hour, system_log_rollup_state;
@@ -0,0 +1,32 @@
+-- ===================================================================
+-- system_logs 로그 검색용 n-gram 전문 검색 인덱스 (선택)
+-- ===================================================================
+-- 로그 검색어(search)는 기본적으로 message/action/username LIKE '%검색어%'로 조회하므로 항상 전체 스캔이 발생
+-- 이 인덱스를 만들면 app.log-search.mode: AUTO(기본)에서 자동으로 감지해 MATCH ... AGAINST로 조회
+-- (인덱스 존재 여부는 애플리케이션 기동 후 첫 검색에서 한 번 확인하므로 인덱스 추가 후 재시작 필요)
+--
+-- 주의:
+-- - ngram 파서는 공백 없이 붙여 쓰는 한글도 ngram_token_size 단위로 잘라 색인 (MySQL 5.7.6+ / 8.0)
+-- - ngram_token_size는 서버 시작 옵션(기본 2)이며 app.log-search.ngram-token-size와 같은 값이어야 함
+--   (토큰보다 짧은 검색어는 인덱스로 찾을 수 없으므로 애플리케이션이 LIKE로 조회)
+-- - 인덱스 생성 중에는 테이블 쓰기가 잠기므로(ALGORITHM=INPLACE, LOCK=SHARED) 로그가 많으면 점검 시간에 적용
+-- - innodb_ft_enable_stopword = OFF 권장 (기본 영어 불용어 목록이 n-gram 토큰에도 적용되어 일부 검색어가 누락될 수 있음)
+-- - MySQL은 파티션 테이블에 FULLTEXT 인덱스를 허용하지 않으므로 system_logs_partitioning.sql(app.log-retention.mode: PARTITION)과
+--   함께 적용할 수 없음 (둘 중 하나만 선택, 파티션 테이블에서 app.log-search.mode: FULLTEXT이면 애플리케이션 기동 실패)
+-- ===================================================================
+
+-- 현재 설정 확인
+SHOW VARIABLES LIKE 'ngram_token_size';
+SHOW VARIABLES LIKE 'innodb_ft_enable_stopword';
+
+ALTER TABLE system_logs
+    ADD FULLTEXT INDEX ft_system_logs_text (message, action, username) WITH PARSER ngram;
+
+-- 확인
+SELECT INDEX_NAME, COLUMN_NAME, INDEX_TYPE
+FROM information_schema.STATISTICS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'system_logs' AND INDEX_TYPE = 'FULLTEXT'
+ORDER BY INDEX_NAME, SEQ_IN_INDEX;
+
+-- 제거 (LIKE 검색으로 되돌리기)
+-- ALTER TABLE system_logs DROP INDEX ft_system_logs_text;
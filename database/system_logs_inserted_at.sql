@@ -0,0 +1,20 @@
+-- ===================================================================
+-- system_logs.inserted_at 컬럼 추가 (기존 데이터베이스 마이그레이션)
+-- ===================================================================
+-- final_integrated_database.sql로 새로 만든 데이터베이스에는 이미 포함되어 있으므로 적용하지 않음
+-- 애플리케이션을 업데이트하기 전에 system_log_rollup.sql과 함께 적용
+-- (적용 전에는 로그 집계가 매 주기 실패하고 진행 위치가 멈춰, 통계 API가 집계되지 않은 로그를 점점 더 많이 직접 조회)
+--
+-- created_at은 로그가 발생한 시각(큐에 넣은 시각)이라 저장/커밋 순서와 다를 수 있음
+-- 로그 집계(LogRollupService)는 ID 사이가 비어 있을 때 다음 로그의 저장 시각으로 대기 여부를 판단
+-- 기존 행은 적용 시각으로 채워지며, 이미 커밋된 행이므로 집계에는 영향 없음
+-- 집계 진행 위치 판단에 윈도 함수(LAG, SUM OVER)를 사용하므로 MySQL 8.0 이상 필요
+-- ===================================================================
+
+ALTER TABLE system_logs
+    ADD COLUMN inserted_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) AFTER created_at;
+
+-- 확인
+SELECT COLUMN_NAME, COLUMN_TYPE, IS_NULLABLE, COLUMN_DEFAULT
+FROM information_schema.COLUMNS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'system_logs' AND COLUMN_NAME = 'inserted_at';
@@ -0,0 +1,31 @@
+-- ===================================================================
+-- system_logs 일별 파티션 전환 (선택)
+-- ===================================================================
+-- app.log-retention.mode: PARTITION 으로 사용
+-- 보존 기간이 지난 날짜의 파티션을 통째로 DROP하므로 대량 DELETE 없이 정리됨
+-- 이후 날짜의 파티션은 애플리케이션이 보존 정리 실행 시 pmax를 나눠 미리 생성 (app.log-retention.partitions-ahead-days)
+--
+-- 주의:
+-- - 파티션 키(created_at)는 모든 고유 키에 포함되어야 하므로 기본 키를 (id, created_at)으로 변경
+-- - 테이블 전체를 다시 만드는 작업이므로 로그가 많으면 점검 시간에 적용하거나 온라인 스키마 변경 도구 사용
+-- - p_history의 날짜를 적용일로 바꿔서 실행 (이전 로그는 p_history에 모이고, 적용일 + 보존 기간이 지나면 함께 삭제됨)
+-- - MySQL은 파티션 테이블에 FULLTEXT 인덱스를 허용하지 않으므로 system_logs_fulltext.sql의 n-gram 검색과 함께 사용할 수 없음
+--   (FULLTEXT 인덱스가 있으면 먼저 제거해야 파티션 전환이 가능하며, 전환 후 로그 검색은 LIKE로 동작 - app.log-search.mode: AUTO 또는 LIKE)
+-- ===================================================================
+
+ALTER TABLE system_logs
+    MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE system_logs
+    PARTITION BY RANGE COLUMNS (created_at) (
+        PARTITION p_history VALUES LESS THAN ('2025-08-01 00:00:00'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 확인
+SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+FROM information_schema.PARTITIONS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'system_logs'
+ORDER BY PARTITION_ORDINAL_POSITION;
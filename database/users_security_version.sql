@@ -0,0 +1,21 @@
+-- ===================================================================
+-- users.security_version 컬럼 추가 (기존 데이터베이스 마이그레이션)
+-- ===================================================================
+-- final_integrated_database.sql로 새로 만든 데이터베이스에는 이미 포함되어 있으므로 적용하지 않음
+-- app.security.jwt.stateless: true로 전환하기 전에 적용
+-- (무상태 인증이 꺼져 있으면 애플리케이션이 이 컬럼을 읽거나 쓰지 않음)
+--
+-- 비밀번호 변경, 활성 상태 변경, 사용자명 변경, 역할 변경 시 값이 증가하며
+-- 액세스 토큰의 sv 클레임과 다르면 해당 토큰을 거부
+-- ===================================================================
+
+ALTER TABLE users
+    ADD COLUMN security_version BIGINT NOT NULL DEFAULT 0 AFTER locked_until;
+
+-- 확인
+SELECT COLUMN_NAME, COLUMN_TYPE, IS_NULLABLE, COLUMN_DEFAULT
+FROM information_schema.COLUMNS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'users' AND COLUMN_NAME = 'security_version';
+
+-- 제거 (무상태 인증을 사용하지 않는 경우)
+-- ALTER TABLE users DROP COLUMN security_version;
@@ -27,6 +27,73 @@ const logService = {
 
   createTestLog: async () => {
     return await api.post('/logs/test');
+  },
+
+  /**
+   * 실시간 로그 스트림 구독 (Server-Sent Events)
+   * EventSource는 Authorization 헤더를 보낼 수 없으므로 연결할 때마다 스트림 전용 토큰(수명이 짧음)을 발급받아 token 파라미터로 전달
+   * 연결이 끊기면(만료된 토큰으로는 브라우저 자동 재연결이 실패) 새 토큰으로 다시 연결하고 마지막으로 받은 로그 ID 이후부터 이어 받음
+   * connected 이벤트의 resumed가 false이면 이어 받지 못한 구간이 있으므로 필요하면 searchLogs로 보충
+   * @param filters { level, username, action }
+   * @param handlers { onConnected, onLog, onDropped, onError }
+   * @returns 구독 종료 함수
+   */
+  openLogStream: (filters = {}, handlers = {}) => {
+    let eventSource = null;
+    let lastEventId = null;
+    let retryTimer = null;
+    let closed = false;
+
+    const scheduleReconnect = () => {
+      if (!closed) {
+        retryTimer = setTimeout(connect, 3000);
+      }
+    };
+
+    const connect = async () => {
+      try {
+        const response = await api.post('/logs/stream/token');
+        if (closed) {
+          return;
+        }
+        const params = new URLSearchParams({ token: response.data.data.token });
+        Object.entries(filters).forEach(([key, value]) => {
+          if (value) {
+            params.append(key, value);
+          }
+        });
+        if (lastEventId) {
+          params.append('lastEventId', lastEventId);
+        }
+
+        eventSource = new EventSource(`${api.defaults.baseURL}/logs/stream?${params}`);
+        eventSource.addEventListener('connected', (event) => {
+          handlers.onConnected?.(JSON.parse(event.data));
+        });
+        eventSource.addEventListener('log', (event) => {
+          lastEventId = event.lastEventId || lastEventId;
+          handlers.onLog?.(JSON.parse(event.data));
+        });
+        eventSource.addEventListener('dropped', (event) => {
+          handlers.onDropped?.(JSON.parse(event.data));
+        });
+        eventSource.onerror = () => {
+          eventSource.close();
+          scheduleReconnect();
+        };
+      } catch (error) {
+        handlers.onError?.(error);
+        scheduleReconnect();
+      }
+    };
+
+    connect();
+
+    return () => {
+      closed = true;
+      clearTimeout(retryTimer);
+      eventSource?.close();
+    };
   }
 };
 